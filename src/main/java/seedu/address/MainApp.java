@@ -5,9 +5,15 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
@@ -24,11 +30,12 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentConflict;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
 import seedu.address.storage.AppointmentStorage;
-import seedu.address.storage.JsonAddressBookStorage;
-import seedu.address.storage.JsonAppointmentStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
+import seedu.address.storage.JournaledAppointmentStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
@@ -43,6 +50,12 @@ public class MainApp extends Application {
 
     public static final Version VERSION = new Version(1, 6, 0, false);
 
+    // one thread reads the address book while the other reads the appointments
+    private static final int STARTUP_READER_COUNT = 2;
+
+    // years of imported appointments can conflict thousands of times, so only the first few go in the warning
+    private static final int MAX_CONFLICTS_LOGGED = 5;
+
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
     protected Ui ui;
@@ -51,22 +64,38 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    // the data read from storage, which is read in the background while the UI starts
+    private CompletableFuture<StoredData> storedData;
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing SocialBook ]===========================");
         super.init();
 
+        long startTime = System.nanoTime();
         AppParameters appParameters = AppParameters.parse(getParameters());
         config = initConfig(appParameters.getConfigPath());
         initLogging(config);
+        logPhaseTime("Reading config", startTime);
 
+        startTime = System.nanoTime();
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getSocialBookFilePath());
-        AppointmentStorage appointmentStorage = new JsonAppointmentStorage(userPrefs.getAppointmentFilePath());
+        AddressBookStorage addressBookStorage = new JournaledAddressBookStorage(userPrefs.getSocialBookFilePath());
+        AppointmentStorage appointmentStorage = new JournaledAppointmentStorage(userPrefs.getAppointmentFilePath());
         storage = new StorageManager(addressBookStorage, appointmentStorage, userPrefsStorage);
+        logPhaseTime("Reading preferences", startTime);
 
-        model = initModelManager(storage, userPrefs);
+        Storage storageToRead = storage;
+        ExecutorService readers = Executors.newFixedThreadPool(STARTUP_READER_COUNT, runnable -> {
+            Thread readThread = new Thread(runnable, "Storage: Startup Read Thread");
+            readThread.setDaemon(true);
+            return readThread;
+        });
+        storedData = CompletableFuture.supplyAsync(() -> readStoredData(storageToRead, readers), readers);
+        storedData.whenComplete((data, error) -> readers.shutdown());
+
+        model = initModelManager(userPrefs);
 
         logic = new LogicManager(model, storage);
 
@@ -74,15 +103,58 @@ public class MainApp extends Application {
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
+     * Returns an empty {@code ModelManager} with {@code userPrefs}, to be filled once the data has been read.
+     */
+    private Model initModelManager(ReadOnlyUserPrefs userPrefs) {
+        ModelManager modelManager = new ModelManager(new AddressBook(), new ArrayList<>(), userPrefs);
+
+        // ensures initial list shown to user consists only of current (i.e. unarchived) persons
+        modelManager.updateFilteredPersonList(Model.PREDICATE_SHOW_CURRENT_PERSONS);
+
+        return modelManager;
+    }
+
+    /**
+     * Fills the model with {@code data} and lets the user start entering commands.
+     */
+    private void loadStoredData(StoredData data) {
+        long startTime = System.nanoTime();
+        model.setAddressBook(data.addressBook());
+        model.setAppointmentList(data.appointments());
+        if (data.isSampleData()) {
+            logic.scheduleSave(); // creates the data file, which no command may otherwise do this session
+        }
+
+        List<AppointmentConflict> conflicts = model.getAppointmentConflicts();
+        if (!conflicts.isEmpty()) {
+            logger.warning("Loaded appointments contain " + conflicts.size() + " conflicting pair(s), including: "
+                    + conflicts.subList(0, Math.min(conflicts.size(), MAX_CONFLICTS_LOGGED)));
+            if (logger.isLoggable(Level.FINE)) {
+                logger.fine("All conflicting pairs of loaded appointments: " + conflicts);
+            }
+        }
+        logPhaseTime("Loading data into model", startTime);
+
+        ui.setLoading(false);
+    }
+
+    /**
+     * Returns the address book and appointments read from {@code storage}, which are read at the same time. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * In either case, no appointments are used. <br>
+     * The appointments are read on another thread of {@code readers}, which this method waits for, so
+     * {@code readers} must have a thread free besides the one running this method.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+    private static StoredData readStoredData(Storage storage, Executor readers) {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
+        long startTime = System.nanoTime();
+        CompletableFuture<List<Appointment>> appointmentsRead =
+                CompletableFuture.supplyAsync(() -> readAppointments(storage), readers);
 
         ReadOnlyAddressBook initialData;
         List<Appointment> appointments = null;
+        boolean isSampleData = false;
 
         try {
             Optional<ReadOnlyAddressBook> addressBookOptional = storage.readAddressBook();
@@ -91,6 +163,7 @@ public class MainApp extends Application {
                         + " populated with a sample SocialBook.");
                 initialData = SampleDataUtil.getSampleAddressBook();
                 appointments = new ArrayList<>();
+                isSampleData = true;
             } else {
                 initialData = addressBookOptional.get();
             }
@@ -101,25 +174,34 @@ public class MainApp extends Application {
             appointments = new ArrayList<>();
         }
 
-        // Read appointments only if address book was loaded successfully
+        logPhaseTime("Reading address book", startTime);
+
+        // Use appointments only if address book was loaded successfully
         if (appointments == null) {
-            try {
-                appointments = storage.readAppointments().orElseGet(() -> {
-                    logger.info("No appointment data found. Initializing with an empty appointment list.");
-                    return new ArrayList<>();
-                });
-            } catch (DataLoadingException e) {
-                logger.warning("Failed to load appointment data. Initializing with an empty appointment list.");
-                appointments = new ArrayList<>();
-            }
+            appointments = appointmentsRead.join();
         }
+        logPhaseTime("Reading data", startTime);
 
-        ModelManager modelManager = new ModelManager(initialData, appointments, userPrefs);
+        return new StoredData(initialData, appointments, isSampleData);
+    }
 
-        // ensures initial list shown to user consists only of current (i.e. unarchived) persons
-        modelManager.updateFilteredPersonList(Model.PREDICATE_SHOW_CURRENT_PERSONS);
+    private static List<Appointment> readAppointments(Storage storage) {
+        long startTime = System.nanoTime();
+        try {
+            return storage.readAppointments().orElseGet(() -> {
+                logger.info("No appointment data found. Initializing with an empty appointment list.");
+                return new ArrayList<>();
+            });
+        } catch (DataLoadingException e) {
+            logger.warning("Failed to load appointment data. Initializing with an empty appointment list.");
+            return new ArrayList<>();
+        } finally {
+            logPhaseTime("Reading appointments", startTime);
+        }
+    }
 
-        return modelManager;
+    private static void logPhaseTime(String phase, long startTime) {
+        logger.info(String.format("%s took %d ms", phase, (System.nanoTime() - startTime) / 1_000_000));
     }
 
     private void initLogging(Config config) {
@@ -198,18 +280,34 @@ public class MainApp extends Application {
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting SocialBook " + MainApp.VERSION);
+        long startTime = System.nanoTime();
         ui.start(primaryStage);
+        logPhaseTime("Starting UI", startTime);
+
+        ui.setLoading(true);
+        storedData.whenComplete((data, error) -> Platform.runLater(() -> {
+            if (error != null) {
+                ui.showLoadingFailed(error);
+            } else {
+                loadStoredData(data);
+            }
+        }));
     }
 
+    /**
+     * The address book and appointments read from storage, or the sample data used when there is no address book.
+     */
+    private record StoredData(ReadOnlyAddressBook addressBook, List<Appointment> appointments,
+            boolean isSampleData) {}
+
     @Override
     public void stop() {
         logger.info("============================ [ Stopping SocialBook ] =============================");
+        logic.shutdown(); // saves any changes still waiting to be written in the background
         try {
-            storage.saveAddressBook(model.getAddressBook());
-            storage.saveAppointments(model.getAppointmentList());
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
-            logger.severe("Failed to save the address book, preferences and appointments" + StringUtil.getDetails(e));
+            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
     }
 }
@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.stream.Stream;
 
@@ -32,4 +33,35 @@ public class CollectionUtil {
     public static boolean isAnyNonNull(Object... items) {
         return items != null && Arrays.stream(items).anyMatch(Objects::nonNull);
     }
+
+    /**
+     * Replaces the contents of {@code target} with those of {@code replacement}, removing and inserting only the
+     * elements between their longest common prefix and suffix. When {@code target} is observable, its listeners
+     * are told about the elements that changed instead of a replacement of the whole list.
+     */
+    public static <T> void replaceChangedRange(List<T> target, List<? extends T> replacement) {
+        requireAllNonNull(target, replacement);
+
+        int start = 0;
+        while (start < target.size() && start < replacement.size()
+                && target.get(start).equals(replacement.get(start))) {
+            start++;
+        }
+
+        int targetEnd = target.size();
+        int replacementEnd = replacement.size();
+        while (targetEnd > start && replacementEnd > start
+                && target.get(targetEnd - 1).equals(replacement.get(replacementEnd - 1))) {
+            targetEnd--;
+            replacementEnd--;
+        }
+
+        List<? extends T> insertedElements = List.copyOf(replacement.subList(start, replacementEnd));
+        if (targetEnd > start) {
+            target.subList(start, targetEnd).clear();
+        }
+        if (!insertedElements.isEmpty()) {
+            target.addAll(start, insertedElements);
+        }
+    }
 }
@@ -0,0 +1,264 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+import javafx.collections.ListChangeListener;
+
+/**
+ * An immutable list, where each change returns a new list that shares all but O(log n) of its structure with the
+ * list it was made from. Holding on to earlier versions therefore costs memory proportional to the changes made
+ * since, rather than to the number of elements.
+ *
+ * The elements are kept in a treap ordered by position, in which each node also records the size of its subtree.
+ * Changes copy only the nodes on the paths to the positions changed. The exception is a permutation applied through
+ * {@link #withChange}, such as sorting the list, which moves every element. The list is then built again, so the
+ * versions before and after a permutation share no structure, and each costs memory proportional to its size.
+ *
+ * @param <E> the type of the elements, none of which may be null.
+ */
+public final class PersistentList<E> extends AbstractList<E> {
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<E> root;
+
+    private PersistentList(Node<E> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns an empty list.
+     */
+    @SuppressWarnings("unchecked") // the empty list holds no elements of any type
+    public static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /**
+     * Returns a list of {@code elements}, in the same order.
+     */
+    public static <E> PersistentList<E> of(List<? extends E> elements) {
+        requireNonNull(elements);
+        return elements.isEmpty() ? empty() : new PersistentList<>(build(elements, 0, elements.size()));
+    }
+
+    @Override
+    public int size() {
+        return Node.size(root);
+    }
+
+    @Override
+    public E get(int index) {
+        Objects.checkIndex(index, size());
+        Node<E> node = root;
+        while (true) {
+            int leftSize = Node.size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.element;
+            }
+        }
+    }
+
+    /**
+     * Returns a copy of this list with the element at {@code index} replaced by {@code element}.
+     */
+    public PersistentList<E> with(int index, E element) {
+        requireNonNull(element);
+        Objects.checkIndex(index, size());
+        return new PersistentList<>(replace(root, index, element));
+    }
+
+    /**
+     * Returns a copy of this list with {@code elements} inserted at {@code index}.
+     */
+    public PersistentList<E> plus(int index, List<? extends E> elements) {
+        requireNonNull(elements);
+        Objects.checkIndex(index, size() + 1);
+        if (elements.isEmpty()) {
+            return this;
+        }
+
+        List<Node<E>> parts = split(root, index);
+        return new PersistentList<>(merge(merge(parts.get(0), build(elements, 0, elements.size())), parts.get(1)));
+    }
+
+    /**
+     * Returns a copy of this list without the elements from {@code fromIndex}, inclusive, to {@code toIndex},
+     * exclusive.
+     */
+    public PersistentList<E> minus(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size());
+        if (fromIndex == toIndex) {
+            return this;
+        }
+
+        List<Node<E>> parts = split(root, fromIndex);
+        List<Node<E>> removedAndRest = split(parts.get(1), toIndex - fromIndex);
+        return new PersistentList<>(merge(parts.get(0), removedAndRest.get(1)));
+    }
+
+    /**
+     * Returns a copy of this list with {@code change} applied, where this list holds the elements of the changed
+     * list as they were before the change.
+     * A permutation moves every element, so it is applied by building a new list that shares nothing with this one.
+     */
+    public PersistentList<E> withChange(ListChangeListener.Change<? extends E> change) {
+        requireNonNull(change);
+        PersistentList<E> changedList = this;
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                return of(change.getList()); // already includes any later changes
+            }
+
+            int from = change.getFrom();
+            if (change.wasReplaced() && change.getRemovedSize() == 1 && change.getAddedSize() == 1) {
+                changedList = changedList.with(from, change.getAddedSubList().get(0));
+            } else {
+                changedList = changedList.minus(from, from + change.getRemovedSize())
+                        .plus(from, change.getAddedSubList());
+            }
+        }
+        return changedList;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            // the nodes whose elements and right subtrees are still to be visited, nearest first
+            private final Deque<Node<E>> path = new ArrayDeque<>();
+
+            {
+                pushLeftmostPath(root);
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !path.isEmpty();
+            }
+
+            @Override
+            public E next() {
+                if (path.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Node<E> node = path.pop();
+                pushLeftmostPath(node.right);
+                return node.element;
+            }
+
+            private void pushLeftmostPath(Node<E> node) {
+                for (; node != null; node = node.left) {
+                    path.push(node);
+                }
+            }
+        };
+    }
+
+    /**
+     * Returns a balanced tree of the elements from {@code from}, inclusive, to {@code to}, exclusive.
+     * Each node is given a random priority no lower than those of its children, so the tree is a valid treap
+     * whose priorities are as random as they can be while keeping it balanced.
+     */
+    private static <E> Node<E> build(List<? extends E> elements, int from, int to) {
+        if (from == to) {
+            return null;
+        }
+
+        int middle = (from + to) >>> 1;
+        Node<E> left = build(elements, from, middle);
+        Node<E> right = build(elements, middle + 1, to);
+        int childPriority = Math.max(Node.priority(left), Node.priority(right));
+        int priority = Math.max(ThreadLocalRandom.current().nextInt(), childPriority);
+        return new Node<>(requireNonNull(elements.get(middle)), priority, left, right);
+    }
+
+    private static <E> Node<E> replace(Node<E> node, int index, E element) {
+        int leftSize = Node.size(node.left);
+        if (index < leftSize) {
+            return node.withChildren(replace(node.left, index, element), node.right);
+        } else if (index > leftSize) {
+            return node.withChildren(node.left, replace(node.right, index - leftSize - 1, element));
+        } else {
+            return new Node<>(element, node.priority, node.left, node.right);
+        }
+    }
+
+    /**
+     * Returns the first {@code count} elements under {@code node} and the rest, as two trees.
+     */
+    private static <E> List<Node<E>> split(Node<E> node, int count) {
+        if (node == null) {
+            return Arrays.asList(null, null);
+        }
+
+        int leftSize = Node.size(node.left);
+        if (count <= leftSize) {
+            List<Node<E>> parts = split(node.left, count);
+            return Arrays.asList(parts.get(0), node.withChildren(parts.get(1), node.right));
+        } else {
+            List<Node<E>> parts = split(node.right, count - leftSize - 1);
+            return Arrays.asList(node.withChildren(node.left, parts.get(0)), parts.get(1));
+        }
+    }
+
+    /**
+     * Returns a tree of the elements under {@code left} followed by those under {@code right}.
+     */
+    private static <E> Node<E> merge(Node<E> left, Node<E> right) {
+        if (left == null) {
+            return right;
+        } else if (right == null) {
+            return left;
+        } else if (left.priority >= right.priority) {
+            return left.withChildren(left.left, merge(left.right, right));
+        } else {
+            return right.withChildren(merge(left, right.left), right.right);
+        }
+    }
+
+    /**
+     * A node of the treap, which is never modified once created so that it can be shared between lists.
+     */
+    private static final class Node<E> {
+        private final E element;
+        private final int priority;
+        private final Node<E> left;
+        private final Node<E> right;
+        private final int size;
+
+        private Node(E element, int priority, Node<E> left, Node<E> right) {
+            this.element = element;
+            this.priority = priority;
+            this.left = left;
+            this.right = right;
+            this.size = size(left) + 1 + size(right);
+        }
+
+        private Node<E> withChildren(Node<E> left, Node<E> right) {
+            return new Node<>(element, priority, left, right);
+        }
+
+        private static int size(Node<?> node) {
+            return node == null ? 0 : node.size;
+        }
+
+        private static int priority(Node<?> node) {
+            return node == null ? Integer.MIN_VALUE : node.priority;
+        }
+    }
+}
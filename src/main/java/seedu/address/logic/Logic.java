@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -24,6 +25,27 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Sets the handler that receives the error message of any save that fails.
+     * Changes are saved in the background, so the handler is not called on the thread that executed the command.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
+
+    /**
+     * Schedules the current data to be saved in the background, as is done after each command that changes it.
+     */
+    void scheduleSave();
+
+    /**
+     * Blocks until all changes made by executed commands have been saved.
+     */
+    void flushSaves();
+
+    /**
+     * Saves all pending changes and stops saving in the background.
+     */
+    void shutdown();
+
     /**
      * Returns the AddressBook.
      *
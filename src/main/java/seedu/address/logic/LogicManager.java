@@ -3,6 +3,7 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -18,6 +19,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.appointment.Appointment;
 import seedu.address.model.person.Person;
+import seedu.address.storage.SaveScheduler;
 import seedu.address.storage.Storage;
 
 /**
@@ -33,7 +35,7 @@ public class LogicManager implements Logic {
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
+    private final SaveScheduler saveScheduler;
     private final AddressBookParser addressBookParser;
 
 
@@ -41,8 +43,16 @@ public class LogicManager implements Logic {
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, SaveScheduler.DEFAULT_DELAY_MILLIS);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} that saves changes to {@code storage} once no command has changed
+     * the {@code model} for {@code saveDelayMillis} milliseconds.
+     */
+    public LogicManager(Model model, Storage storage, long saveDelayMillis) {
         this.model = model;
-        this.storage = storage;
+        this.saveScheduler = new SaveScheduler(storage, saveDelayMillis);
         addressBookParser = new AddressBookParser();
     }
 
@@ -57,18 +67,50 @@ public class LogicManager implements Logic {
             pastCommands.add(command);
         }
 
-        try {
-            storage.saveAddressBook(model.getAddressBook());
-            storage.saveAppointments(model.getAppointmentList());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+        if (isModifyingCommand(command)) {
+            scheduleSave();
         }
 
         return commandResult;
     }
 
+    /**
+     * Returns true if {@code command} may have changed the data that is saved to storage.
+     */
+    private static boolean isModifyingCommand(Command command) {
+        String commandWord = command.getCommandWord();
+        return command instanceof UndoCommand
+                || Command.getPersonActionCommands().contains(commandWord)
+                || Command.getAppointmentActionCommands().contains(commandWord);
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        saveScheduler.setSaveFailureHandler(e -> saveFailureHandler.accept(getSaveFailureMessage(e)));
+    }
+
+    private static String getSaveFailureMessage(IOException e) {
+        if (e instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, e.getMessage());
+    }
+
+    @Override
+    public void scheduleSave() {
+        saveScheduler.schedule(model.getAddressBook(), model.getAppointmentListSnapshot());
+    }
+
+    @Override
+    public void flushSaves() {
+        saveScheduler.flush();
+    }
+
+    @Override
+    public void shutdown() {
+        saveScheduler.shutdown();
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
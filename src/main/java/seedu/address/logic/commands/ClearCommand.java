@@ -4,12 +4,14 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.commands.UndoCommand.MESSAGE_UNDO_CLEAR;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Predicate;
 
 import seedu.address.logic.CommandHistory;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
-import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.appointment.Appointment;
 import seedu.address.model.person.Person;
 
 /**
@@ -24,13 +26,16 @@ public class ClearCommand extends Command {
 
     public static final String MESSAGE_SUCCESS = "Address book has been cleared!";
 
-    private Model oldModel;
+    // the data before clearing, kept to be restored on undo
+    private ReadOnlyAddressBook oldAddressBook;
+    private List<Appointment> oldAppointments;
     private Predicate<Person> oldPredicate;
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        oldModel = new ModelManager(model.getAddressBook(), model.getAppointmentList(), model.getUserPrefs());
+        oldAddressBook = model.getAddressBook().snapshot();
+        oldAppointments = model.getAppointmentListSnapshot();
         oldPredicate = model.getFilteredPersonListPredicate();
         model.setAddressBook(new AddressBook());
         model.setAppointmentList(new ArrayList<>());
@@ -44,9 +49,8 @@ public class ClearCommand extends Command {
 
     @Override
     public String undo(Model model, CommandHistory pastCommands) {
-        model.setAddressBook(oldModel.getAddressBook());
-        model.setAppointmentList(oldModel.getAppointmentList());
-        model.setUserPrefs(oldModel.getUserPrefs());
+        model.setAddressBook(oldAddressBook);
+        model.setAppointmentList(oldAppointments);
         model.updateFilteredPersonList(oldPredicate);
         pastCommands.remove();
         return MESSAGE_UNDO_CLEAR;
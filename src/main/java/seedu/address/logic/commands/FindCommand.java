@@ -13,9 +13,6 @@ import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
-import seedu.address.model.person.predicates.AddressContainsKeywordsPredicate;
-import seedu.address.model.person.predicates.IncomePredicate;
-import seedu.address.model.person.predicates.NameContainsKeywordsPredicate;
 import seedu.address.model.person.predicates.PriorityPredicate;
 
 /**
@@ -45,6 +42,7 @@ public class FindCommand extends Command {
     private final List<String> addresses;
     private final List<String> priorities;
     private final List<String> incomes;
+    private final Predicate<Person> searchPredicate;
 
     /**
      * Creates a FindCommand to filter the address book using the given lists of
@@ -55,6 +53,21 @@ public class FindCommand extends Command {
         this.addresses = addresses;
         this.priorities = priorities;
         this.incomes = incomes;
+        searchPredicate = compileSearchPredicate(priorities);
+    }
+
+    /**
+     * Returns a predicate that matches persons satisfying every non-empty filter that does not need the model.
+     * Keywords are normalized once here instead of for every person tested.
+     */
+    private static Predicate<Person> compileSearchPredicate(List<String> priorities) {
+        Predicate<Person> predicate = unused -> true;
+
+        if (!priorities.isEmpty()) {
+            predicate = predicate.and(new PriorityPredicate(priorities));
+        }
+
+        return predicate;
     }
 
     @Override
@@ -62,26 +75,21 @@ public class FindCommand extends Command {
         requireNonNull(model);
 
         // default starting predicate
-        Predicate<Person> finalPredicate = model.getFilteredPersonListPredicate();
-        assert finalPredicate != null;
+        Predicate<Person> currentPredicate = model.getFilteredPersonListPredicate();
+        assert currentPredicate != null;
 
+        Predicate<Person> predicate = currentPredicate.and(searchPredicate);
         if (!names.isEmpty()) {
-            finalPredicate = finalPredicate.and(new NameContainsKeywordsPredicate(names));
+            predicate = predicate.and(model.getNameStartsWithKeywordsPredicate(names));
         }
-
         if (!addresses.isEmpty()) {
-            finalPredicate = finalPredicate.and(new AddressContainsKeywordsPredicate(addresses));
-        }
-
-        if (!priorities.isEmpty()) {
-            finalPredicate = finalPredicate.and(new PriorityPredicate(priorities));
+            predicate = predicate.and(model.getAddressContainsKeywordsPredicate(addresses));
         }
-
         if (!incomes.isEmpty()) {
-            finalPredicate = finalPredicate.and(new IncomePredicate(incomes));
+            predicate = predicate.and(model.getIncomeWithinLimitsPredicate(incomes));
         }
 
-        model.updateFilteredPersonList(finalPredicate);
+        model.updateFilteredPersonList(predicate);
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
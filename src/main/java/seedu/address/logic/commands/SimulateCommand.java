@@ -0,0 +1,123 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_INCOME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_INCOME_PER_CAPITA;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.scheme.EligibilityChanges;
+import seedu.address.model.scheme.EligibilitySimulator;
+import seedu.address.model.scheme.Scheme;
+import seedu.address.model.scheme.SchemeTable;
+
+/**
+ * Shows who would gain or lose eligibility for a scheme if its income limits were changed, without changing the
+ * scheme or anyone in the address book. Only current (i.e. unarchived) persons are considered.
+ */
+public class SimulateCommand extends Command {
+
+    public static final String COMMAND_WORD = "simulate";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows how many unarchived people in the address book "
+            + "would gain or lose eligibility for a scheme if its income limits were changed, and lists them.\n"
+            + "Parameters: SCHEME_SHORT_NAME "
+            + "[" + PREFIX_INCOME + "INCOME_LIMIT] "
+            + "[" + PREFIX_INCOME_PER_CAPITA + "INCOME_PER_CAPITA_LIMIT]\n"
+            + "At least one of the limits must be given.\n"
+            + "Example: " + COMMAND_WORD + " SCFA "
+            + PREFIX_INCOME + "5000 "
+            + PREFIX_INCOME_PER_CAPITA + "1250";
+
+    public static final String MESSAGE_SCHEME_NOT_FOUND = "There is no scheme with the short name %1$s";
+    public static final String MESSAGE_SIMULATION_RESULT = "If the limits of %1$s were changed:\n"
+            + "Number Of People Who Would Become Eligible: %2$d\n"
+            + "Number Of People Who Would No Longer Be Eligible: %3$d\n"
+            + "The people affected are listed.";
+
+    private final String schemeNameShort;
+    private final Double maxIncome;
+    private final Double maxIncomePerCapita;
+
+    /**
+     * Creates a SimulateCommand for changing the limits of the scheme with the short name {@code schemeNameShort}
+     * to {@code maxIncome} and {@code maxIncomePerCapita}. A limit that is {@code null} is left unchanged.
+     */
+    public SimulateCommand(String schemeNameShort, Double maxIncome, Double maxIncomePerCapita) {
+        requireNonNull(schemeNameShort);
+        this.schemeNameShort = schemeNameShort;
+        this.maxIncome = maxIncome;
+        this.maxIncomePerCapita = maxIncomePerCapita;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        SchemeTable currentSchemes = SchemeTable.getDefault();
+        Scheme scheme = currentSchemes.getSchemeByShortName(schemeNameShort)
+                .orElseThrow(() -> new CommandException(String.format(MESSAGE_SCHEME_NOT_FOUND, schemeNameShort)));
+
+        Scheme proposedScheme = scheme;
+        if (maxIncome != null) {
+            proposedScheme = proposedScheme.withMaxIncome(maxIncome);
+        }
+        if (maxIncomePerCapita != null) {
+            proposedScheme = proposedScheme.withMaxIncomePerCapita(maxIncomePerCapita);
+        }
+
+        List<Person> currentPersons = model.getAddressBook().getPersonList().stream()
+                .filter(Model.PREDICATE_SHOW_CURRENT_PERSONS)
+                .toList();
+        EligibilityChanges changes = new EligibilitySimulator(currentSchemes, currentSchemes.withScheme(proposedScheme))
+                .simulate(currentPersons);
+        int schemeIndex = currentSchemes.getSchemes().indexOf(scheme);
+
+        // persons are matched by name, so that the persons listed stay listed after they are edited
+        Set<Name> affectedNames = changes.getAffectedPersons().stream()
+                .map(Person::getName)
+                .collect(Collectors.toSet());
+        model.updateFilteredPersonList(Model.PREDICATE_SHOW_CURRENT_PERSONS
+                .and(person -> affectedNames.contains(person.getName())));
+
+        return new CommandResult(String.format(MESSAGE_SIMULATION_RESULT, scheme.getSchemeNameShort(),
+                changes.getPersonsGaining(schemeIndex).size(), changes.getPersonsLosing(schemeIndex).size()));
+    }
+
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SimulateCommand otherSimulateCommand)) {
+            return false;
+        }
+
+        return schemeNameShort.equalsIgnoreCase(otherSimulateCommand.schemeNameShort)
+                && Objects.equals(maxIncome, otherSimulateCommand.maxIncome)
+                && Objects.equals(maxIncomePerCapita, otherSimulateCommand.maxIncomePerCapita);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("schemeNameShort", schemeNameShort)
+                .add("maxIncome", maxIncome)
+                .add("maxIncomePerCapita", maxIncomePerCapita)
+                .toString();
+    }
+}
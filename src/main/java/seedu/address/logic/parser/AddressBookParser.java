@@ -27,6 +27,7 @@ import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListAppointmentCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.SchemeCommand;
+import seedu.address.logic.commands.SimulateCommand;
 import seedu.address.logic.commands.SortCommand;
 import seedu.address.logic.commands.StatisticsCommand;
 import seedu.address.logic.commands.UndoCommand;
@@ -127,6 +128,9 @@ public class AddressBookParser {
         case ViewPersonSchemeCommand.COMMAND_WORD:
             return new ViewPersonSchemeCommandParser().parse(arguments);
 
+        case SimulateCommand.COMMAND_WORD:
+            return new SimulateCommandParser().parse(arguments);
+
         case ArchiveCommand.COMMAND_WORD_ARCHIVE:
             return new ArchiveCommandParser(true).parse(arguments);
 
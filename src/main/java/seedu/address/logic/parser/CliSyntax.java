@@ -14,6 +14,7 @@ public class CliSyntax {
     public static final Prefix PREFIX_PRIORITY = new Prefix("pri/");
     public static final Prefix PREFIX_INCOME = new Prefix("income/");
     public static final Prefix PREFIX_FAMILY_SIZE = new Prefix("famsize/");
+    public static final Prefix PREFIX_INCOME_PER_CAPITA = new Prefix("percapita/");
     public static final Prefix PREFIX_TAG = new Prefix("t/");
     public static final Prefix PREFIX_DATE = new Prefix("date/");
     public static final Prefix PREFIX_FROM = new Prefix("from/");
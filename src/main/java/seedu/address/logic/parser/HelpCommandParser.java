@@ -19,6 +19,7 @@ import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListAppointmentCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.SchemeCommand;
+import seedu.address.logic.commands.SimulateCommand;
 import seedu.address.logic.commands.SortCommand;
 import seedu.address.logic.commands.StatisticsCommand;
 import seedu.address.logic.commands.UndoCommand;
@@ -123,6 +124,10 @@ public class HelpCommandParser implements Parser<HelpCommand> {
             message = ViewPersonSchemeCommand.MESSAGE_USAGE;
             break;
 
+        case SimulateCommand.COMMAND_WORD:
+            message = SimulateCommand.MESSAGE_USAGE;
+            break;
+
         case ArchiveCommand.COMMAND_WORD_ARCHIVE: case ArchiveCommand.COMMAND_WORD_UNARCHIVE:
             message = ArchiveCommand.MESSAGE_USAGE;
             break;
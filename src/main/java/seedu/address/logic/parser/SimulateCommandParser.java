@@ -0,0 +1,49 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_INCOME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_INCOME_PER_CAPITA;
+
+import java.util.Optional;
+
+import seedu.address.logic.commands.SimulateCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new SimulateCommand object
+ */
+public class SimulateCommandParser implements Parser<SimulateCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SimulateCommand
+     * and returns a SimulateCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SimulateCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_INCOME, PREFIX_INCOME_PER_CAPITA);
+
+        String schemeNameShort = argMultimap.getPreamble();
+        if (schemeNameShort.isEmpty()
+                || (argMultimap.getValue(PREFIX_INCOME).isEmpty()
+                        && argMultimap.getValue(PREFIX_INCOME_PER_CAPITA).isEmpty())) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SimulateCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_INCOME, PREFIX_INCOME_PER_CAPITA);
+        Double maxIncome = parseLimit(argMultimap.getValue(PREFIX_INCOME));
+        Double maxIncomePerCapita = parseLimit(argMultimap.getValue(PREFIX_INCOME_PER_CAPITA));
+        return new SimulateCommand(schemeNameShort, maxIncome, maxIncomePerCapita);
+    }
+
+    /**
+     * Parses {@code limit} into an income limit if it is present, or returns {@code null} otherwise.
+     */
+    private static Double parseLimit(Optional<String> limit) throws ParseException {
+        if (limit.isEmpty()) {
+            return null;
+        }
+        return ParserUtil.parseIncome(limit.get()).getValue();
+    }
+}
@@ -4,9 +4,11 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.List;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
 import seedu.address.model.person.UniquePersonList;
 
 /**
@@ -114,12 +116,47 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns an unmodifiable copy of this address book, which shares its persons with this address book
+     * and so is taken in constant time.
+     */
+    @Override
+    public ReadOnlyAddressBook snapshot() {
+        return new Snapshot(persons.snapshot());
+    }
+
+    /**
+     * Returns an index of the persons in the address book by name.
+     */
+    public PersonSearchIndex getNameIndex() {
+        return persons.getNameIndex();
+    }
+
+    /**
+     * Returns an index of the persons in the address book by address.
+     */
+    public PersonSearchIndex getAddressIndex() {
+        return persons.getAddressIndex();
+    }
+
+    /**
+     * Returns an index of the persons in the address book by income.
+     */
+    public PersonSearchIndex getIncomeIndex() {
+        return persons.getIncomeIndex();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
             return true;
         }
 
+        // a snapshot is equal to an address book holding the same persons
+        if (other instanceof Snapshot otherSnapshot) {
+            return getPersonList().equals(otherSnapshot.getPersonList());
+        }
+
         // instanceof handles nulls
         if (!(other instanceof AddressBook otherAddressBook)) {
             return false;
@@ -132,4 +169,56 @@ public class AddressBook implements ReadOnlyAddressBook {
     public int hashCode() {
         return persons.hashCode();
     }
+
+    /**
+     * An unmodifiable address book holding the persons of an {@code AddressBook} at the time it was taken.
+     * It is equal to any snapshot or {@code AddressBook} holding the same persons in the same order.
+     */
+    private static class Snapshot implements ReadOnlyAddressBook {
+        private final ObservableList<Person> persons;
+
+        Snapshot(List<Person> persons) {
+            this.persons = FXCollections.unmodifiableObservableList(FXCollections.observableList(persons));
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return persons;
+        }
+
+        @Override
+        public ReadOnlyAddressBook snapshot() {
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            if (other instanceof AddressBook) {
+                return other.equals(this);
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Snapshot otherSnapshot)) {
+                return false;
+            }
+
+            return persons.equals(otherSnapshot.persons);
+        }
+
+        @Override
+        public int hashCode() {
+            return persons.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("persons", persons)
+                    .toString();
+        }
+    }
 }
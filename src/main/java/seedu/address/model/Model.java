@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.Comparator;
 import java.util.List;
 import java.util.function.Predicate;
@@ -8,8 +9,10 @@ import java.util.function.Predicate;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentConflict;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonStatistics;
 
 /**
  * The API of the Model component.
@@ -92,6 +95,9 @@ public interface Model {
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
+    /** Returns running totals over the filtered person list, kept up to date as the list changes */
+    PersonStatistics getFilteredPersonListStatistics();
+
     /**
      * Returns the current predicate used by the filtered person list.
      * Should not return {@code null}.
@@ -104,6 +110,25 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Returns a predicate that matches persons whose name starts with any of {@code keywords}, ignoring case.
+     * Matching persons are looked up in an index of the address book instead of being tested one by one.
+     */
+    Predicate<Person> getNameStartsWithKeywordsPredicate(List<String> keywords);
+
+    /**
+     * Returns a predicate that matches persons whose address contains any of {@code keywords}, ignoring case.
+     * Matching persons are looked up in an index of the address book instead of being tested one by one.
+     */
+    Predicate<Person> getAddressContainsKeywordsPredicate(List<String> keywords);
+
+    /**
+     * Returns a predicate that matches persons whose income is no greater than any of {@code incomes}.
+     * Each of {@code incomes} must be a valid number.
+     * Matching persons are looked up in an index of the address book instead of being tested one by one.
+     */
+    Predicate<Person> getIncomeWithinLimitsPredicate(List<String> incomes);
+
     /**
      * Updates the order of the person list according to the given parameter.
      *
@@ -119,6 +144,12 @@ public interface Model {
     /** Returns an unmodifiable view of the appointment list */
     List<Appointment> getAppointmentList();
 
+    /**
+     * Returns an immutable copy of the appointment list, which later changes to the appointments do not affect.
+     * The copy shares its structure with the appointment list, so it is taken in constant time.
+     */
+    List<Appointment> getAppointmentListSnapshot();
+
     /**
      * Adds the given appointment.
      * {@code appointment} must not conflict with any existing appointments.
@@ -165,6 +196,12 @@ public interface Model {
      */
     void updateFilteredAppointmentList(Predicate<Appointment> predicate);
 
+    /**
+     * Returns the appointments in the filtered appointment list dated from {@code startDate} to {@code endDate}
+     * inclusive, ordered by date and time.
+     */
+    List<Appointment> getFilteredAppointmentsBetween(LocalDate startDate, LocalDate endDate);
+
     /**
      * Returns a list of appointments that conflict with the given appointment.
      */
@@ -174,4 +211,9 @@ public interface Model {
      * Returns a list of appointments that conflict with {@code newAppointment}, excluding {@code oldAppointment}.
      */
     List<Appointment> getConflictingAppointments(Appointment oldAppointment, Appointment newAppointment);
+
+    /**
+     * Returns every pair of appointments that conflict with each other, ordered by date.
+     */
+    List<AppointmentConflict> getAppointmentConflicts();
 }
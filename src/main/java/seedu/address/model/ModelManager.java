@@ -1,39 +1,58 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.replaceChangedRange;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.IntStream;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentConflict;
+import seedu.address.model.appointment.AppointmentIndex;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonStatistics;
+import seedu.address.model.person.predicates.IndexedSearchPredicate;
 
 /**
  * Represents the in-memory model of the address book data.
  */
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
+    private static final Comparator<Appointment> APPOINTMENT_ORDER = Comparator.comparing(Appointment::date)
+            .thenComparing(Appointment::startTime);
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
     private final SortedList<Person> sortedPersons;
+    private final PersonStatistics filteredPersonStatistics;
 
     private final ObservableList<Appointment> appointments;
     private final FilteredList<Appointment> filteredAppointments;
     private final SortedList<Appointment> sortedAppointments;
+    // every appointment sorted by date and start time, to find the position of an appointment by binary search
+    private final SortedList<Appointment> appointmentsInOrder;
+    private final AppointmentIndex appointmentIndex;
+    // an immutable copy of the appointments that is updated with each change, from which snapshots are taken
+    private PersistentList<Appointment> appointmentSnapshot;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -47,16 +66,20 @@ public class ModelManager implements Model {
         this.userPrefs = new UserPrefs(userPrefs);
 
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        filteredPersonStatistics = new PersonStatistics(filteredPersons);
 
         sortedPersons = new SortedList<>(filteredPersons); // sortedPersons is updated along with filteredPersons
         sortedPersons.setComparator(Comparator.comparing(Person::getPriority) // sort by descending priority
                 .thenComparing(person -> person.getName().toString())); // sort by name alphabetically after
 
         this.appointments = FXCollections.observableArrayList(appointments);
+        appointmentIndex = new AppointmentIndex(this.appointments);
         filteredAppointments = new FilteredList<>(this.appointments);
-        sortedAppointments = new SortedList<>(filteredAppointments);
-        sortedAppointments.setComparator(Comparator.comparing(Appointment::date)
-                .thenComparing(Appointment::startTime));
+        sortedAppointments = new SortedList<>(filteredAppointments, APPOINTMENT_ORDER);
+        appointmentsInOrder = new SortedList<>(this.appointments, APPOINTMENT_ORDER);
+        appointmentSnapshot = PersistentList.of(this.appointments);
+        this.appointments.addListener((ListChangeListener<Appointment>) change ->
+                appointmentSnapshot = appointmentSnapshot.withChange(change));
     }
 
     public ModelManager() {
@@ -148,7 +171,7 @@ public class ModelManager implements Model {
     @Override
     public void setAppointmentList(List<Appointment> appointments) {
         requireNonNull(appointments);
-        this.appointments.setAll(appointments);
+        replaceChangedRange(this.appointments, appointments);
     }
 
     @Override
@@ -156,6 +179,11 @@ public class ModelManager implements Model {
         return FXCollections.unmodifiableObservableList(appointments);
     }
 
+    @Override
+    public List<Appointment> getAppointmentListSnapshot() {
+        return appointmentSnapshot;
+    }
+
     @Override
     public void addAppointment(Appointment appointment) {
         requireNonNull(appointment);
@@ -178,10 +206,10 @@ public class ModelManager implements Model {
     @Override
     public void updateAppointments(Name oldName, Name newName) {
         requireAllNonNull(oldName, newName);
-        for (int i = 0; i < appointments.size(); i++) {
-            Appointment appointment = appointments.get(i);
-            if (appointment.name().equals(oldName)) {
-                appointments.set(i, appointment.withName(newName));
+        for (Appointment appointment : new HashSet<>(appointmentIndex.getAppointments(oldName))) {
+            Appointment renamedAppointment = appointment.withName(newName);
+            for (int index : indexesOfAppointment(appointment)) {
+                appointments.set(index, renamedAppointment);
             }
         }
     }
@@ -200,28 +228,75 @@ public class ModelManager implements Model {
     @Override
     public List<Appointment> deleteAppointments(Name name) {
         requireNonNull(name);
-        List<Appointment> appointmentsToDelete = appointments.stream()
-                .filter(appointment -> appointment.name().equals(name))
-                .toList();
-        appointments.removeAll(appointmentsToDelete);
+        List<Appointment> appointmentsToDelete = appointmentIndex.getAppointments(name);
+        int[] indexes = new HashSet<>(appointmentsToDelete).stream()
+                .flatMapToInt(appointment -> Arrays.stream(indexesOfAppointment(appointment)))
+                .sorted()
+                .toArray();
+        // removing from the highest index down leaves the lower indexes still to be removed unchanged
+        for (int i = indexes.length - 1; i >= 0; i--) {
+            appointments.remove(indexes[i]);
+        }
         return appointmentsToDelete;
     }
 
+    /**
+     * Returns the indexes of the appointments in {@code appointments} that are equal to {@code appointment}.
+     * They are found by binary search over the appointments sorted by date and start time, among which
+     * appointments with the same date and start time are adjacent.
+     */
+    private int[] indexesOfAppointment(Appointment appointment) {
+        int low = 0;
+        int high = appointmentsInOrder.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (APPOINTMENT_ORDER.compare(appointmentsInOrder.get(middle), appointment) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        IntStream.Builder indexes = IntStream.builder();
+        for (int i = low; i < appointmentsInOrder.size()
+                && APPOINTMENT_ORDER.compare(appointmentsInOrder.get(i), appointment) == 0; i++) {
+            if (appointmentsInOrder.get(i).equals(appointment)) {
+                indexes.add(appointmentsInOrder.getSourceIndex(i));
+            }
+        }
+        return indexes.build().toArray();
+    }
+
+    @Override
+    public List<Appointment> getFilteredAppointmentsBetween(LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(startDate, endDate);
+        List<Appointment> appointments = appointmentIndex.getAppointmentsBetween(startDate, endDate);
+        Predicate<? super Appointment> filter = filteredAppointments.getPredicate();
+        if (filter != null) {
+            appointments.removeIf(appointment -> !filter.test(appointment));
+        }
+        return appointments;
+    }
+
     @Override
     public List<Appointment> getConflictingAppointments(Appointment appointment) {
         requireNonNull(appointment);
-        return appointments.stream().filter(appointment::hasConflictWith).toList();
+        return appointmentIndex.getConflictingAppointments(appointment);
     }
 
     @Override
     public List<Appointment> getConflictingAppointments(Appointment oldAppointment, Appointment newAppointment) {
         requireAllNonNull(oldAppointment, newAppointment);
-        return appointments.stream()
+        return appointmentIndex.getConflictingAppointments(newAppointment).stream()
                 .filter(appointment -> !appointment.equals(oldAppointment))
-                .filter(newAppointment::hasConflictWith)
                 .toList();
     }
 
+    @Override
+    public List<AppointmentConflict> getAppointmentConflicts() {
+        return appointmentIndex.getConflicts();
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -233,6 +308,11 @@ public class ModelManager implements Model {
         return sortedPersons; // sortedPersons wraps filteredPersons and sorts it, so just return sorted version
     }
 
+    @Override
+    public PersonStatistics getFilteredPersonListStatistics() {
+        return filteredPersonStatistics;
+    }
+
     @Override
     public Predicate<Person> getFilteredPersonListPredicate() {
         Predicate<? super Person> predicate = filteredPersons.getPredicate();
@@ -251,6 +331,24 @@ public class ModelManager implements Model {
         filteredPersons.setPredicate(predicate);
     }
 
+    @Override
+    public Predicate<Person> getNameStartsWithKeywordsPredicate(List<String> keywords) {
+        requireNonNull(keywords);
+        return new IndexedSearchPredicate(addressBook.getNameIndex(), keywords);
+    }
+
+    @Override
+    public Predicate<Person> getAddressContainsKeywordsPredicate(List<String> keywords) {
+        requireNonNull(keywords);
+        return new IndexedSearchPredicate(addressBook.getAddressIndex(), keywords);
+    }
+
+    @Override
+    public Predicate<Person> getIncomeWithinLimitsPredicate(List<String> incomes) {
+        requireNonNull(incomes);
+        return new IndexedSearchPredicate(addressBook.getIncomeIndex(), incomes);
+    }
+
     @Override
     public void updateSortingOrder(Comparator<Person> comparator) {
         sortedPersons.setComparator(comparator);
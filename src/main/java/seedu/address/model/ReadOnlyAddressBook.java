@@ -14,4 +14,9 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns an unmodifiable copy of this address book, which does not change when this address book does.
+     */
+    ReadOnlyAddressBook snapshot();
+
 }
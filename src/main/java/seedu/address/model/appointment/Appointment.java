@@ -21,6 +21,14 @@ public record Appointment(Name name, LocalDate date, LocalTime startTime, LocalT
     public static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("EEEE, MMMM d, yyyy");
     public static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("h:mm a", Locale.US);
 
+    // appointments share few distinct dates and times, so the recently formatted ones are kept and reused,
+    // in caches bounded so that formatting many distinct dates over a long session does not grow them
+    private static final int FORMAT_CACHE_CAPACITY = 1024;
+    private static final FormatCache<LocalDate> FORMATTED_DATES =
+            new FormatCache<>(FORMAT_CACHE_CAPACITY, date -> date.format(DATE_FORMATTER));
+    private static final FormatCache<LocalTime> FORMATTED_TIMES =
+            new FormatCache<>(FORMAT_CACHE_CAPACITY, time -> time.format(TIME_FORMATTER));
+
     public Appointment {
         checkArgument(isValidTimeInterval(startTime, endTime), MESSAGE_INVALID_TIME_INTERVAL);
     }
@@ -34,15 +42,15 @@ public record Appointment(Name name, LocalDate date, LocalTime startTime, LocalT
     }
 
     public String getFormattedDate() {
-        return date.format(DATE_FORMATTER);
+        return FORMATTED_DATES.get(date);
     }
 
     public String getFormattedStartTime() {
-        return startTime.format(TIME_FORMATTER);
+        return FORMATTED_TIMES.get(startTime);
     }
 
     public String getFormattedEndTime() {
-        return endTime.format(TIME_FORMATTER);
+        return FORMATTED_TIMES.get(endTime);
     }
 
     /**
@@ -0,0 +1,24 @@
+package seedu.address.model.appointment;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents two appointments whose times overlap on the same date.
+ * {@code first} starts no later than {@code second}.
+ */
+public record AppointmentConflict(Appointment first, Appointment second) {
+
+    public AppointmentConflict {
+        requireAllNonNull(first, second);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("first", first)
+                .add("second", second)
+                .toString();
+    }
+}
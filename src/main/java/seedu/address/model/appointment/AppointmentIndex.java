@@ -0,0 +1,212 @@
+package seedu.address.model.appointment;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Name;
+
+/**
+ * Indexes a list of appointments by the name of the person each appointment is with, and by date and time.
+ * The index listens to the list it is built from, so every change to that list, including a wholesale
+ * replacement of its contents, is reflected in the index.
+ */
+public class AppointmentIndex implements ListChangeListener<Appointment> {
+
+    private final Map<Name, List<Appointment>> appointmentsByName = new HashMap<>();
+    private final TreeMap<LocalDate, DailySchedule> schedulesByDate = new TreeMap<>();
+
+    /**
+     * Creates an index of {@code appointments} that is kept in sync with {@code appointments}.
+     */
+    public AppointmentIndex(ObservableList<Appointment> appointments) {
+        requireNonNull(appointments);
+        appointments.forEach(this::add);
+        appointments.addListener(this);
+    }
+
+    /**
+     * Returns the appointments with the person named {@code name}, or an empty list if there are none.
+     */
+    public List<Appointment> getAppointments(Name name) {
+        requireNonNull(name);
+        return List.copyOf(appointmentsByName.getOrDefault(name, List.of()));
+    }
+
+    /**
+     * Returns the appointments dated from {@code startDate} to {@code endDate} inclusive, ordered by date and
+     * start time. Only the schedules of the dates in range are visited.
+     */
+    public List<Appointment> getAppointmentsBetween(LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(startDate, endDate);
+        List<Appointment> appointments = new ArrayList<>();
+        if (startDate.isAfter(endDate)) {
+            return appointments;
+        }
+        for (DailySchedule schedule : schedulesByDate.subMap(startDate, true, endDate, true).values()) {
+            schedule.addAllTo(appointments);
+        }
+        return appointments;
+    }
+
+    /**
+     * Returns the appointments that conflict with {@code appointment}, ordered by start time.
+     * Only appointments on the same date that start shortly enough before {@code appointment} to still be
+     * running are examined.
+     *
+     * @see Appointment#hasConflictWith(Appointment)
+     */
+    public List<Appointment> getConflictingAppointments(Appointment appointment) {
+        requireNonNull(appointment);
+        DailySchedule schedule = schedulesByDate.get(appointment.date());
+        if (schedule == null) {
+            return List.of();
+        }
+        return schedule.getOverlapping(appointment.startTime(), appointment.endTime());
+    }
+
+    /**
+     * Returns every pair of appointments that conflict with each other, ordered by date and then by the start
+     * time of the later appointment in each pair. Each date is swept once in order of start time, keeping only
+     * the appointments that are still running.
+     */
+    public List<AppointmentConflict> getConflicts() {
+        List<AppointmentConflict> conflicts = new ArrayList<>();
+        for (DailySchedule schedule : schedulesByDate.values()) {
+            schedule.addConflictsTo(conflicts);
+        }
+        return conflicts;
+    }
+
+    @Override
+    public void onChanged(Change<? extends Appointment> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                continue; // reordering the list does not change what is indexed
+            }
+            change.getRemoved().forEach(this::remove);
+            change.getAddedSubList().forEach(this::add);
+        }
+    }
+
+    private void add(Appointment appointment) {
+        appointmentsByName.computeIfAbsent(appointment.name(), unused -> new ArrayList<>()).add(appointment);
+        schedulesByDate.computeIfAbsent(appointment.date(), unused -> new DailySchedule()).add(appointment);
+    }
+
+    private void remove(Appointment appointment) {
+        List<Appointment> appointments = appointmentsByName.get(appointment.name());
+        if (appointments != null) {
+            appointments.remove(appointment);
+            if (appointments.isEmpty()) {
+                appointmentsByName.remove(appointment.name());
+            }
+        }
+
+        DailySchedule schedule = schedulesByDate.get(appointment.date());
+        if (schedule != null) {
+            schedule.remove(appointment);
+            if (schedule.isEmpty()) {
+                schedulesByDate.remove(appointment.date());
+            }
+        }
+    }
+
+    private static Duration getDuration(Appointment appointment) {
+        return Duration.between(appointment.startTime(), appointment.endTime());
+    }
+
+    /**
+     * The appointments on a single date, ordered by start time.
+     * The longest appointment on the date bounds how early an appointment can start and still overlap a given time.
+     */
+    private static class DailySchedule {
+
+        private final TreeMap<LocalTime, List<Appointment>> appointmentsByStartTime = new TreeMap<>();
+        private Duration longestDuration = Duration.ZERO;
+
+        void add(Appointment appointment) {
+            appointmentsByStartTime.computeIfAbsent(appointment.startTime(), unused -> new ArrayList<>())
+                    .add(appointment);
+            Duration duration = getDuration(appointment);
+            if (duration.compareTo(longestDuration) > 0) {
+                longestDuration = duration;
+            }
+        }
+
+        void remove(Appointment appointment) {
+            List<Appointment> appointments = appointmentsByStartTime.get(appointment.startTime());
+            if (appointments == null || !appointments.remove(appointment)) {
+                return;
+            }
+            if (appointments.isEmpty()) {
+                appointmentsByStartTime.remove(appointment.startTime());
+            }
+
+            if (getDuration(appointment).equals(longestDuration)) {
+                longestDuration = appointmentsByStartTime.values().stream()
+                        .flatMap(List::stream)
+                        .map(AppointmentIndex::getDuration)
+                        .max(Comparator.naturalOrder())
+                        .orElse(Duration.ZERO);
+            }
+        }
+
+        boolean isEmpty() {
+            return appointmentsByStartTime.isEmpty();
+        }
+
+        void addAllTo(List<Appointment> appointments) {
+            appointmentsByStartTime.values().forEach(appointments::addAll);
+        }
+
+        /**
+         * Returns the appointments that start before {@code endTime} and end after {@code startTime}.
+         */
+        List<Appointment> getOverlapping(LocalTime startTime, LocalTime endTime) {
+            Map<LocalTime, List<Appointment>> candidates;
+            if (Duration.between(LocalTime.MIN, startTime).compareTo(longestDuration) < 0) {
+                candidates = appointmentsByStartTime.headMap(endTime, false);
+            } else {
+                candidates = appointmentsByStartTime.subMap(startTime.minus(longestDuration), false, endTime, false);
+            }
+
+            List<Appointment> overlapping = new ArrayList<>();
+            for (List<Appointment> appointments : candidates.values()) {
+                for (Appointment appointment : appointments) {
+                    if (appointment.endTime().isAfter(startTime)) {
+                        overlapping.add(appointment);
+                    }
+                }
+            }
+            return overlapping;
+        }
+
+        void addConflictsTo(List<AppointmentConflict> conflicts) {
+            PriorityQueue<Appointment> running = new PriorityQueue<>(Comparator.comparing(Appointment::endTime));
+            for (List<Appointment> appointments : appointmentsByStartTime.values()) {
+                for (Appointment appointment : appointments) {
+                    while (!running.isEmpty() && !running.peek().endTime().isAfter(appointment.startTime())) {
+                        running.poll();
+                    }
+                    for (Appointment runningAppointment : running) {
+                        conflicts.add(new AppointmentConflict(runningAppointment, appointment));
+                    }
+                    running.add(appointment);
+                }
+            }
+        }
+    }
+}
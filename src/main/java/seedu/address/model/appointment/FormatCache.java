@@ -0,0 +1,52 @@
+package seedu.address.model.appointment;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * A fixed-size cache of the formatted forms of values, in which each value can only be held in the one slot chosen
+ * by its hash code. Formatting a value replaces whichever value held its slot before, so the cache never holds more
+ * than its capacity however many distinct values are formatted.
+ * Entries are never modified, so the cache can be shared between threads without locking. Threads racing on a slot
+ * at worst format the same value twice.
+ *
+ * @param <T> the type of the values formatted.
+ */
+class FormatCache<T> {
+
+    private final Function<T, String> format;
+    private final AtomicReferenceArray<Entry<T>> entries;
+    private final int slotMask;
+
+    /**
+     * Creates an empty cache of up to {@code capacity} values formatted by {@code format}.
+     * {@code capacity} must be a power of two.
+     */
+    FormatCache(int capacity, Function<T, String> format) {
+        requireNonNull(format);
+        assert capacity > 0 && Integer.bitCount(capacity) == 1;
+        this.format = format;
+        entries = new AtomicReferenceArray<>(capacity);
+        slotMask = capacity - 1;
+    }
+
+    /**
+     * Returns {@code value} formatted, reusing the string formatted for it earlier if it is still cached.
+     */
+    String get(T value) {
+        int hash = value.hashCode();
+        int slot = (hash ^ (hash >>> 16)) & slotMask;
+        Entry<T> entry = entries.get(slot);
+        if (entry != null && entry.value().equals(value)) {
+            return entry.formatted();
+        }
+
+        String formatted = format.apply(value);
+        entries.set(slot, new Entry<>(value, formatted));
+        return formatted;
+    }
+
+    private record Entry<T>(T value, String formatted) {}
+}
@@ -0,0 +1,111 @@
+package seedu.address.model.person;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.ObservableList;
+
+/**
+ * Indexes persons by every run of three consecutive characters (trigram) in their address, ignoring case.
+ * A person whose address contains a keyword has every trigram of the keyword, so the persons holding all of them
+ * are the only candidates that need to be checked. Keywords shorter than a trigram are checked against every person.
+ */
+public class AddressTrigramIndex extends PersonSearchIndex {
+
+    public static final int TRIGRAM_LENGTH = 3;
+
+    private final Map<Long, Set<Person>> personsByTrigram = new HashMap<>();
+
+    /**
+     * Creates an index of the addresses of {@code persons} that is kept in sync with {@code persons}.
+     */
+    public AddressTrigramIndex(ObservableList<Person> persons) {
+        super(persons);
+    }
+
+    @Override
+    protected void addMatches(String keywordSearchKey, BitSet matches) {
+        if (keywordSearchKey.length() < TRIGRAM_LENGTH) {
+            for (Person person : getPersons()) {
+                addIfMatching(person, keywordSearchKey, matches);
+            }
+            return;
+        }
+
+        long[] trigrams = getTrigrams(keywordSearchKey);
+        Set<Person> smallestPostings = null;
+        for (long trigram : trigrams) {
+            Set<Person> postings = personsByTrigram.get(trigram);
+            if (postings == null) {
+                return; // no address has this trigram, so none can contain the keyword
+            }
+            if (smallestPostings == null || postings.size() < smallestPostings.size()) {
+                smallestPostings = postings;
+            }
+        }
+
+        for (Person candidate : smallestPostings) {
+            if (isInAllPostings(candidate, trigrams)) {
+                addIfMatching(candidate, keywordSearchKey, matches);
+            }
+        }
+    }
+
+    @Override
+    protected void index(Person person) {
+        for (long trigram : getTrigrams(person.getAddress().getSearchKey())) {
+            personsByTrigram.computeIfAbsent(trigram, unused -> newIdentitySet()).add(person);
+        }
+    }
+
+    @Override
+    protected void unindex(Person person) {
+        for (long trigram : getTrigrams(person.getAddress().getSearchKey())) {
+            Set<Person> postings = personsByTrigram.get(trigram);
+            if (postings != null) {
+                postings.remove(person);
+                if (postings.isEmpty()) {
+                    personsByTrigram.remove(trigram);
+                }
+            }
+        }
+    }
+
+    @Override
+    protected void clear() {
+        personsByTrigram.clear();
+    }
+
+    private boolean isInAllPostings(Person candidate, long[] trigrams) {
+        for (long trigram : trigrams) {
+            if (!personsByTrigram.get(trigram).contains(candidate)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Marks {@code person} in {@code matches} if its address contains {@code keywordSearchKey}.
+     * Sharing every trigram with a keyword does not guarantee containing it, so candidates are always checked.
+     */
+    private void addIfMatching(Person person, String keywordSearchKey, BitSet matches) {
+        if (person.getAddress().getSearchKey().contains(keywordSearchKey)) {
+            addMatch(person, matches);
+        }
+    }
+
+    /**
+     * Returns the trigrams of {@code text}, each packed into a {@code long} with one character per 16 bits.
+     */
+    private static long[] getTrigrams(String text) {
+        int count = Math.max(0, text.length() - TRIGRAM_LENGTH + 1);
+        long[] trigrams = new long[count];
+        for (int i = 0; i < count; i++) {
+            trigrams[i] = ((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2);
+        }
+        return trigrams;
+    }
+}
@@ -0,0 +1,117 @@
+package seedu.address.model.person;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+
+import javafx.collections.ObservableList;
+
+/**
+ * Indexes persons by income, keeping the incomes as a sorted column of primitive values.
+ * Search keywords are income limits, and a person matches a limit if their income is no greater than it.
+ * The persons within a limit form a prefix of the column, which is found by binary search.
+ *
+ * Keeping the column sorted makes each single change shift the entries after it, so changes to many persons at
+ * once, such as replacing the whole list, sort the column again instead.
+ */
+public class IncomeIndex extends PersonSearchIndex {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private double[] incomes = new double[INITIAL_CAPACITY];
+    private Person[] persons = new Person[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Creates an index of the incomes of {@code persons} that is kept in sync with {@code persons}.
+     */
+    public IncomeIndex(ObservableList<Person> persons) {
+        super(persons);
+    }
+
+    @Override
+    protected void addMatches(String keywordSearchKey, BitSet matches) {
+        int end = findEnd(Double.parseDouble(keywordSearchKey));
+        for (int i = 0; i < end; i++) {
+            addMatch(persons[i], matches);
+        }
+    }
+
+    @Override
+    protected void index(Person person) {
+        if (size == incomes.length) {
+            incomes = Arrays.copyOf(incomes, size * 2);
+            persons = Arrays.copyOf(persons, size * 2);
+        }
+
+        double income = person.getIncome().getValue();
+        int position = findEnd(income);
+        System.arraycopy(incomes, position, incomes, position + 1, size - position);
+        System.arraycopy(persons, position, persons, position + 1, size - position);
+        incomes[position] = income;
+        persons[position] = person;
+        size++;
+    }
+
+    @Override
+    protected void unindex(Person person) {
+        double income = person.getIncome().getValue();
+        // persons with the same income are adjacent, ending just before the first higher income
+        for (int i = findEnd(income) - 1; i >= 0 && incomes[i] == income; i--) {
+            if (persons[i] == person) {
+                System.arraycopy(incomes, i + 1, incomes, i, size - i - 1);
+                System.arraycopy(persons, i + 1, persons, i, size - i - 1);
+                size--;
+                persons[size] = null;
+                return;
+            }
+        }
+    }
+
+    @Override
+    protected void indexAll(List<Person> personsToIndex) {
+        Person[] sortedPersons = personsToIndex.toArray(new Person[0]);
+        Arrays.sort(sortedPersons, Comparator.comparingDouble(person -> person.getIncome().getValue()));
+
+        size = sortedPersons.length;
+        int capacity = Math.max(INITIAL_CAPACITY, size);
+        persons = Arrays.copyOf(sortedPersons, capacity);
+        incomes = new double[capacity];
+        for (int i = 0; i < size; i++) {
+            incomes[i] = persons[i].getIncome().getValue();
+        }
+    }
+
+    @Override
+    protected void clear() {
+        Arrays.fill(persons, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Returns true if {@code changedCount} exceeds the logarithm of the number of persons indexed, past which
+     * sorting the column again, in O(n log n), is cheaper than shifting it once per change, in O(n) each.
+     */
+    @Override
+    protected boolean isRebuildCheaper(int changedCount) {
+        return changedCount > Integer.SIZE - Integer.numberOfLeadingZeros(size);
+    }
+
+    /**
+     * Returns the number of indexed persons with an income no greater than {@code limit}.
+     */
+    private int findEnd(double limit) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (incomes[middle] <= limit) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Locale;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -20,6 +22,8 @@ public class Name {
 
     public final String fullName;
 
+    private final String searchKey;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -29,6 +33,7 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        searchKey = name.toLowerCase(Locale.ROOT);
     }
 
     /**
@@ -38,6 +43,13 @@ public class Name {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the lowercase form of this name, against which case-insensitive searches are matched.
+     */
+    public String getSearchKey() {
+        return searchKey;
+    }
+
     @Override
     public String toString() {
         return fullName;
@@ -59,6 +71,7 @@ public class Name {
 
     @Override
     public int hashCode() {
-        return fullName.hashCode();
+        // must agree with the case-insensitive equals above
+        return searchKey.hashCode();
     }
 }
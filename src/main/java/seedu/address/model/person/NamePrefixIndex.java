@@ -0,0 +1,49 @@
+package seedu.address.model.person;
+
+import java.util.BitSet;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javafx.collections.ObservableList;
+
+/**
+ * Indexes persons by their name, ignoring case, in sorted order.
+ * The names starting with a keyword form a contiguous range of the sorted names, so a prefix search only visits
+ * the persons it returns.
+ */
+public class NamePrefixIndex extends PersonSearchIndex {
+
+    private final TreeMap<String, Person> personsByName = new TreeMap<>();
+
+    /**
+     * Creates an index of the names of {@code persons} that is kept in sync with {@code persons}.
+     */
+    public NamePrefixIndex(ObservableList<Person> persons) {
+        super(persons);
+    }
+
+    @Override
+    protected void addMatches(String keywordSearchKey, BitSet matches) {
+        for (Map.Entry<String, Person> entry : personsByName.tailMap(keywordSearchKey).entrySet()) {
+            if (!entry.getKey().startsWith(keywordSearchKey)) {
+                break;
+            }
+            addMatch(entry.getValue(), matches);
+        }
+    }
+
+    @Override
+    protected void index(Person person) {
+        personsByName.put(person.getName().getSearchKey(), person);
+    }
+
+    @Override
+    protected void unindex(Person person) {
+        personsByName.remove(person.getName().getSearchKey(), person);
+    }
+
+    @Override
+    protected void clear() {
+        personsByName.clear();
+    }
+}
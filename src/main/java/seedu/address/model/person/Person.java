@@ -3,6 +3,7 @@ package seedu.address.model.person;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Objects;
@@ -10,6 +11,7 @@ import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.scheme.Scheme;
+import seedu.address.model.scheme.SchemeTable;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -36,6 +38,9 @@ public class Person {
     private final ArrayList<Scheme> schemes = new ArrayList<>();
     private final boolean isArchived;
 
+    // a person's income and family size never change, so this is computed once, when the person is created
+    private final BitSet schemeEligibility;
+
     /**
      * Constructor for a new person with schemes, only used in AddSchemeCommand.
      * Every field must be present and not null.
@@ -57,6 +62,7 @@ public class Person {
         this.schemes.addAll(schemes);
         this.updatedAt = updatedAt;
         this.isArchived = isArchived;
+        this.schemeEligibility = SchemeTable.getDefault().evaluate(income.getValue(), familySize.getValue());
     }
 
     /**
@@ -120,6 +126,22 @@ public class Person {
         return this.isArchived;
     }
 
+    /**
+     * Returns the registered schemes this person is eligible for, as a new set of scheme indexes.
+     *
+     * @see SchemeTable#evaluate(double, int)
+     */
+    public BitSet getSchemeEligibility() {
+        return (BitSet) schemeEligibility.clone();
+    }
+
+    /**
+     * Returns true if this person is eligible for at least one registered scheme.
+     */
+    public boolean isEligibleForAnyScheme() {
+        return !schemeEligibility.isEmpty();
+    }
+
     /**
      * Returns true if both persons have the same name.
      * This defines a weaker notion of equality between two persons.
@@ -0,0 +1,161 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * An index over a list of persons that finds the persons matching search keywords without testing every person.
+ * The index listens to the list it is built from, so every change to that list is reflected in the index.
+ * It is only built the first time it is searched, so lists that are never searched do not pay for it.
+ *
+ * Each indexed person is given a numbered slot, and searches mark the slots of the persons they find in a
+ * {@code BitSet} supplied by the caller, so that repeated searches do not allocate a new set of matches.
+ */
+public abstract class PersonSearchIndex implements ListChangeListener<Person> {
+
+    private final List<Person> persons;
+    private final Map<Person, Integer> slots = new IdentityHashMap<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private boolean isBuilt;
+    private long version;
+
+    /**
+     * Creates an index of {@code persons} that is kept in sync with {@code persons}.
+     */
+    protected PersonSearchIndex(ObservableList<Person> persons) {
+        requireNonNull(persons);
+        this.persons = persons;
+        persons.addListener(this);
+    }
+
+    /**
+     * Returns a number that changes whenever the indexed list changes.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Marks in {@code matches} the persons matching any of {@code keywordSearchKeys}, which must be in lower case,
+     * after clearing it. The marks are only valid until the version of the index changes.
+     */
+    public void search(BitSet matches, String... keywordSearchKeys) {
+        requireNonNull(matches);
+        requireNonNull(keywordSearchKeys);
+        if (!isBuilt) {
+            rebuild();
+        }
+
+        matches.clear();
+        for (String keywordSearchKey : keywordSearchKeys) {
+            addMatches(keywordSearchKey, matches);
+        }
+    }
+
+    /**
+     * Returns true if {@code person} is among the persons marked in {@code matches} by the last search into it.
+     */
+    public boolean isMatch(Person person, BitSet matches) {
+        Integer slot = slots.get(person);
+        return slot != null && matches.get(slot);
+    }
+
+    @Override
+    public void onChanged(Change<? extends Person> change) {
+        version++;
+        if (!isBuilt) {
+            return;
+        }
+
+        int changedCount = 0;
+        while (change.next()) {
+            changedCount += change.getRemovedSize() + change.getAddedSize();
+        }
+        if (isRebuildCheaper(changedCount)) {
+            rebuild();
+            return;
+        }
+
+        change.reset();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                continue; // reordering the list does not change what is indexed
+            }
+            for (Person removed : change.getRemoved()) {
+                unindex(removed);
+                freeSlots.push(slots.remove(removed));
+            }
+            for (Person added : change.getAddedSubList()) {
+                slots.put(added, freeSlots.isEmpty() ? slots.size() : freeSlots.pop());
+                index(added);
+            }
+        }
+    }
+
+    /**
+     * Returns every person in the indexed list, for keywords that the index cannot narrow down.
+     */
+    protected List<Person> getPersons() {
+        return persons;
+    }
+
+    /**
+     * Marks {@code person}, which must be in the indexed list, in {@code matches}.
+     */
+    protected void addMatch(Person person, BitSet matches) {
+        matches.set(slots.get(person));
+    }
+
+    /**
+     * Marks the persons matching {@code keywordSearchKey} in {@code matches}, using {@link #addMatch}.
+     */
+    protected abstract void addMatches(String keywordSearchKey, BitSet matches);
+
+    protected abstract void index(Person person);
+
+    protected abstract void unindex(Person person);
+
+    /**
+     * Replaces everything indexed with {@code persons}.
+     * Indexes that can be built in bulk faster than one person at a time should override this.
+     */
+    protected void indexAll(List<Person> persons) {
+        clear();
+        persons.forEach(this::index);
+    }
+
+    protected abstract void clear();
+
+    /**
+     * Returns true if rebuilding the whole index is cheaper than applying {@code changedCount} removals and
+     * additions one at a time. Indexes whose single changes cost more than a constant should override this.
+     */
+    protected boolean isRebuildCheaper(int changedCount) {
+        return false;
+    }
+
+    protected static Set<Person> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    private void rebuild() {
+        slots.clear();
+        freeSlots.clear();
+        for (Person person : persons) {
+            slots.put(person, slots.size());
+        }
+        indexAll(persons);
+        isBuilt = true;
+    }
+}
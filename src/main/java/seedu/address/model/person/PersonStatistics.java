@@ -0,0 +1,90 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * Running totals over a list of persons, such as how many persons there are of each priority.
+ * The totals listen to the list they are computed from, and are adjusted by each change to that list,
+ * so they can be read at any time without going through the list.
+ */
+public class PersonStatistics implements ListChangeListener<Person> {
+
+    private final int[] priorityCounts = new int[Priority.values().length];
+    private final Set<Name> names = new HashSet<>();
+    private int count;
+    private int schemeEligibleCount;
+
+    /**
+     * Creates totals over {@code persons} that are kept in sync with {@code persons}.
+     */
+    public PersonStatistics(ObservableList<Person> persons) {
+        requireNonNull(persons);
+        persons.forEach(this::add);
+        persons.addListener(this);
+    }
+
+    /**
+     * Returns the number of persons in the list.
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the number of persons in the list with the given {@code priority}.
+     */
+    public int getCount(Priority priority) {
+        requireNonNull(priority);
+        return priorityCounts[priority.ordinal()];
+    }
+
+    /**
+     * Returns the number of persons in the list who are eligible for at least one scheme.
+     */
+    public int getSchemeEligibleCount() {
+        return schemeEligibleCount;
+    }
+
+    /**
+     * Returns true if a person named {@code name} is in the list.
+     */
+    public boolean containsName(Name name) {
+        requireNonNull(name);
+        return names.contains(name);
+    }
+
+    @Override
+    public void onChanged(Change<? extends Person> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                continue; // reordering the list does not change any total
+            }
+            change.getRemoved().forEach(this::remove);
+            change.getAddedSubList().forEach(this::add);
+        }
+    }
+
+    private void add(Person person) {
+        adjust(person, 1);
+        names.add(person.getName());
+    }
+
+    private void remove(Person person) {
+        adjust(person, -1);
+        names.remove(person.getName());
+    }
+
+    private void adjust(Person person, int delta) {
+        count += delta;
+        priorityCounts[person.getPriority().ordinal()] += delta;
+        if (person.isEligibleForAnyScheme()) {
+            schemeEligibleCount += delta;
+        }
+    }
+}
@@ -1,13 +1,18 @@
 package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.replaceChangedRange;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 
@@ -18,6 +23,11 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Since persons are identified by their {@code Name}, an index from each name to the person holding it is kept
+ * alongside the backing list, so that identity checks do not need to scan the whole list. Search indexes over the
+ * persons are kept in sync with the backing list in the same way, as is a persistent copy of the list from which
+ * snapshots are taken.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -25,15 +35,29 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
 public class UniquePersonList implements Iterable<Person> {
 
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    // created before the unmodifiable view, so that the indexes are updated before views over this list are notified
+    private final NamePrefixIndex nameIndex = new NamePrefixIndex(internalList);
+    private final AddressTrigramIndex addressIndex = new AddressTrigramIndex(internalList);
+    private final IncomeIndex incomeIndex = new IncomeIndex(internalList);
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Name, Person> personsByName = new HashMap<>();
+    private PersistentList<Person> persistentList = PersistentList.empty();
+
+    /**
+     * Creates an empty list.
+     */
+    public UniquePersonList() {
+        internalList.addListener((ListChangeListener<Person>) change ->
+                persistentList = persistentList.withChange(change));
+    }
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return personsByName.containsKey(toCheck.getName());
     }
 
     /**
@@ -45,6 +69,7 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        personsByName.put(toAdd.getName(), toAdd);
         internalList.add(toAdd);
     }
 
@@ -59,6 +84,7 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        personsByName.put(toAdd.getName(), toAdd);
         internalList.add(index, toAdd);
     }
 
@@ -79,6 +105,8 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        personsByName.remove(target.getName());
+        personsByName.put(editedPerson.getName(), editedPerson);
         internalList.set(index, editedPerson);
     }
 
@@ -91,24 +119,32 @@ public class UniquePersonList implements Iterable<Person> {
         if (!internalList.remove(toRemove)) {
             throw new PersonNotFoundException();
         }
+        personsByName.remove(toRemove.getName());
     }
 
+    /**
+     * Replaces the contents of this list with those of {@code replacement}.
+     * Only the persons that differ are removed and inserted, so views over this list are not rebuilt.
+     */
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        personsByName.clear();
+        personsByName.putAll(replacement.personsByName);
+        replaceChangedRange(internalList, replacement.internalList);
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     * Only the persons that differ are removed and inserted, so views over this list are not rebuilt.
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
-        }
+        Map<Name, Person> replacementIndex = indexUniquePersons(persons);
 
-        internalList.setAll(persons);
+        personsByName.clear();
+        personsByName.putAll(replacementIndex);
+        replaceChangedRange(internalList, persons);
     }
 
     /**
@@ -118,6 +154,36 @@ public class UniquePersonList implements Iterable<Person> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns an immutable copy of the persons in this list, in the same order.
+     * The copy shares its structure with this list, so it is taken in constant time. Copies taken before and after
+     * the list is reordered share none of it, as reordering rebuilds the copy the list is kept in sync with.
+     */
+    public List<Person> snapshot() {
+        return persistentList;
+    }
+
+    /**
+     * Returns an index of the persons in this list by name.
+     */
+    public PersonSearchIndex getNameIndex() {
+        return nameIndex;
+    }
+
+    /**
+     * Returns an index of the persons in this list by address.
+     */
+    public PersonSearchIndex getAddressIndex() {
+        return addressIndex;
+    }
+
+    /**
+     * Returns an index of the persons in this list by income.
+     */
+    public PersonSearchIndex getIncomeIndex() {
+        return incomeIndex;
+    }
+
     @Override
     public Iterator<Person> iterator() {
         return internalList.iterator();
@@ -149,16 +215,18 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns {@code persons} indexed by name, checking in a single pass that they are all unique.
+     *
+     * @throws DuplicatePersonException naming the first pair of persons with the same identity, if any.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static Map<Name, Person> indexUniquePersons(List<Person> persons) {
+        Map<Name, Person> index = new HashMap<>();
+        for (Person person : persons) {
+            Person existingPerson = index.putIfAbsent(person.getName(), person);
+            if (existingPerson != null) {
+                throw new DuplicatePersonException(existingPerson, person);
             }
         }
-        return true;
+        return index;
     }
 }
@@ -1,5 +1,7 @@
 package seedu.address.model.person.exceptions;
 
+import seedu.address.model.person.Person;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
@@ -8,4 +10,12 @@ public class DuplicatePersonException extends RuntimeException {
     public DuplicatePersonException() {
         super("Operation would result in duplicate persons");
     }
+
+    /**
+     * Constructs a {@code DuplicatePersonException} naming the first pair of persons found to share an identity.
+     */
+    public DuplicatePersonException(Person firstPerson, Person secondPerson) {
+        super(String.format("Operation would result in duplicate persons: %s and %s",
+                firstPerson.getName(), secondPerson.getName()));
+    }
 }
@@ -1,44 +0,0 @@
-package seedu.address.model.person.predicates;
-
-import java.util.List;
-import java.util.function.Predicate;
-
-import seedu.address.commons.util.ToStringBuilder;
-import seedu.address.model.person.Person;
-
-/**
- * Tests that a {@code Person}'s {@code Address} matches any of the keywords given.
- */
-public class AddressContainsKeywordsPredicate implements Predicate<Person> {
-    private final List<String> keywords;
-
-    public AddressContainsKeywordsPredicate(List<String> keywords) {
-        this.keywords = keywords;
-    }
-
-    @Override
-    public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> person.getAddress().value.toLowerCase().contains(keyword.toLowerCase()));
-    }
-
-    @Override
-    public boolean equals(Object other) {
-        if (other == this) {
-            return true;
-        }
-
-        // instanceof handles nulls
-        if (!(other instanceof AddressContainsKeywordsPredicate)) {
-            return false;
-        }
-
-        AddressContainsKeywordsPredicate otherPredicate = (AddressContainsKeywordsPredicate) other;
-        return keywords.equals(otherPredicate.keywords);
-    }
-
-    @Override
-    public String toString() {
-        return new ToStringBuilder(this).add("keywords", keywords).toString();
-    }
-}
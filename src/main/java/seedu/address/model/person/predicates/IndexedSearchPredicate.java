@@ -0,0 +1,67 @@
+package seedu.address.model.person.predicates;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
+
+/**
+ * Tests that a {@code Person} is among those found by searching a {@code PersonSearchIndex} for any of the keywords
+ * given, ignoring case. The search is rerun whenever the index has changed since it was last run, so persons added
+ * or edited after the predicate is created are tested the same way as the others. The matches are marked in a
+ * {@code BitSet} owned by the predicate, which each rerun clears and reuses.
+ */
+public class IndexedSearchPredicate implements Predicate<Person> {
+    private final PersonSearchIndex index;
+    private final List<String> keywords;
+    private final String[] keywordSearchKeys;
+
+    private final BitSet matches = new BitSet();
+    private boolean hasSearched;
+    private long matchesVersion;
+
+    /**
+     * Creates a predicate that matches the persons found by searching {@code index} for {@code keywords}.
+     */
+    public IndexedSearchPredicate(PersonSearchIndex index, List<String> keywords) {
+        requireAllNonNull(index, keywords);
+        this.index = index;
+        this.keywords = keywords;
+        keywordSearchKeys = keywords.stream().map(keyword -> keyword.toLowerCase(Locale.ROOT)).toArray(String[]::new);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        if (!hasSearched || matchesVersion != index.getVersion()) {
+            index.search(matches, keywordSearchKeys);
+            hasSearched = true;
+            matchesVersion = index.getVersion();
+        }
+        return index.isMatch(person, matches);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof IndexedSearchPredicate otherPredicate)) {
+            return false;
+        }
+
+        return index == otherPredicate.index && keywords.equals(otherPredicate.keywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).toString();
+    }
+}
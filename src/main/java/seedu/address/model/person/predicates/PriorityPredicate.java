@@ -1,25 +1,41 @@
 package seedu.address.model.person.predicates;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Priority;
 
 /**
  * Tests that a {@code Person}'s {@code Priority} matches any of the keywords given.
+ * The keywords are resolved to a set of priorities once, so testing a person is a single bit test on a field of the
+ * person. Unlike name, address and income searches, this is no dearer than a lookup in a {@code PersonSearchIndex}
+ * would be, so priorities are not indexed.
  */
 public class PriorityPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    private final Set<Priority> priorities;
 
+    /**
+     * Creates a predicate that matches priorities named by any of {@code keywords}, ignoring case.
+     * Keywords that do not name a priority match nothing.
+     */
     public PriorityPredicate(List<String> keywords) {
         this.keywords = keywords;
+        priorities = EnumSet.noneOf(Priority.class);
+        for (Priority priority : Priority.values()) {
+            if (keywords.stream().anyMatch(keyword -> keyword.equalsIgnoreCase(priority.name()))) {
+                priorities.add(priority);
+            }
+        }
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream().map(String::toUpperCase)
-                .anyMatch(keyword -> keyword.equals(person.getPriority().name()));
+        return priorities.contains(person.getPriority());
     }
 
     @Override
@@ -0,0 +1,106 @@
+package seedu.address.model.scheme;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * Represents the persons whose scheme eligibility differs between two scheme tables, with their eligibility under
+ * each table as a set of scheme indexes.
+ * Guarantees: immutable.
+ */
+public class EligibilityChanges {
+
+    private static final EligibilityChanges NONE = new EligibilityChanges(List.of(), List.of(), List.of());
+
+    private final List<Person> persons;
+    private final List<BitSet> currentEligibilities;
+    private final List<BitSet> proposedEligibilities;
+
+    /**
+     * Creates the changes in which {@code persons.get(i)} goes from being eligible for the schemes in
+     * {@code currentEligibilities.get(i)} to those in {@code proposedEligibilities.get(i)}.
+     * The bit sets are not copied, so they must not be changed afterwards.
+     */
+    EligibilityChanges(List<Person> persons, List<BitSet> currentEligibilities, List<BitSet> proposedEligibilities) {
+        requireAllNonNull(persons, currentEligibilities, proposedEligibilities);
+        assert persons.size() == currentEligibilities.size() && persons.size() == proposedEligibilities.size();
+        this.persons = List.copyOf(persons);
+        this.currentEligibilities = List.copyOf(currentEligibilities);
+        this.proposedEligibilities = List.copyOf(proposedEligibilities);
+    }
+
+    /**
+     * Returns changes with no persons in them.
+     */
+    public static EligibilityChanges none() {
+        return NONE;
+    }
+
+    /**
+     * Returns the changes in this followed by those in {@code other}.
+     */
+    public EligibilityChanges merge(EligibilityChanges other) {
+        if (other.persons.isEmpty()) {
+            return this;
+        }
+        if (persons.isEmpty()) {
+            return other;
+        }
+
+        return new EligibilityChanges(concat(persons, other.persons),
+                concat(currentEligibilities, other.currentEligibilities),
+                concat(proposedEligibilities, other.proposedEligibilities));
+    }
+
+    /**
+     * Returns an immutable list of every person whose eligibility for any scheme changes.
+     */
+    public List<Person> getAffectedPersons() {
+        return persons;
+    }
+
+    /**
+     * Returns the persons who would become eligible for the scheme at {@code schemeIndex}.
+     */
+    public List<Person> getPersonsGaining(int schemeIndex) {
+        List<Person> gaining = new ArrayList<>();
+        for (int i = 0; i < persons.size(); i++) {
+            if (proposedEligibilities.get(i).get(schemeIndex) && !currentEligibilities.get(i).get(schemeIndex)) {
+                gaining.add(persons.get(i));
+            }
+        }
+        return Collections.unmodifiableList(gaining);
+    }
+
+    /**
+     * Returns the persons who would no longer be eligible for the scheme at {@code schemeIndex}.
+     */
+    public List<Person> getPersonsLosing(int schemeIndex) {
+        List<Person> losing = new ArrayList<>();
+        for (int i = 0; i < persons.size(); i++) {
+            if (currentEligibilities.get(i).get(schemeIndex) && !proposedEligibilities.get(i).get(schemeIndex)) {
+                losing.add(persons.get(i));
+            }
+        }
+        return Collections.unmodifiableList(losing);
+    }
+
+    private static <T> List<T> concat(List<T> first, List<T> second) {
+        List<T> result = new ArrayList<>(first.size() + second.size());
+        result.addAll(first);
+        result.addAll(second);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("affectedPersons", persons).toString();
+    }
+}
@@ -0,0 +1,127 @@
+package seedu.address.model.scheme;
+
+import static java.util.Objects.requireNonNullElse;
+
+import java.util.Objects;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents a set of limits on a household's finances, all of which must be met for the condition to hold.
+ * Limits that are not given are unbounded.
+ * Guarantees: immutable.
+ */
+public class EligibilityCondition {
+
+    private final double maxIncome;
+    private final double maxIncomePerCapita;
+    private final int minFamilySize;
+    private final int maxFamilySize;
+
+    /**
+     * Constructs an {@code EligibilityCondition} with the given limits, each of which is inclusive.
+     */
+    public EligibilityCondition(double maxIncome, double maxIncomePerCapita, int minFamilySize, int maxFamilySize) {
+        this.maxIncome = maxIncome;
+        this.maxIncomePerCapita = maxIncomePerCapita;
+        this.minFamilySize = minFamilySize;
+        this.maxFamilySize = maxFamilySize;
+    }
+
+    /**
+     * Returns an {@code EligibilityCondition} read from scheme definitions, leaving out any limits not given.
+     */
+    @JsonCreator
+    private static EligibilityCondition fromDefinition(@JsonProperty("maxIncome") Double maxIncome,
+            @JsonProperty("maxIncomePerCapita") Double maxIncomePerCapita,
+            @JsonProperty("minFamilySize") Integer minFamilySize,
+            @JsonProperty("maxFamilySize") Integer maxFamilySize) {
+        return new EligibilityCondition(requireNonNullElse(maxIncome, Double.POSITIVE_INFINITY),
+                requireNonNullElse(maxIncomePerCapita, Double.POSITIVE_INFINITY),
+                requireNonNullElse(minFamilySize, 0),
+                requireNonNullElse(maxFamilySize, Integer.MAX_VALUE));
+    }
+
+    public double getMaxIncome() {
+        return maxIncome;
+    }
+
+    public double getMaxIncomePerCapita() {
+        return maxIncomePerCapita;
+    }
+
+    public int getMinFamilySize() {
+        return minFamilySize;
+    }
+
+    public int getMaxFamilySize() {
+        return maxFamilySize;
+    }
+
+    /**
+     * Returns a copy of this condition with its income limit set to {@code maxIncome}.
+     * A condition without an income limit is returned unchanged, as it does not depend on income.
+     */
+    public EligibilityCondition withMaxIncome(double maxIncome) {
+        if (this.maxIncome == Double.POSITIVE_INFINITY) {
+            return this;
+        }
+        return new EligibilityCondition(maxIncome, maxIncomePerCapita, minFamilySize, maxFamilySize);
+    }
+
+    /**
+     * Returns a copy of this condition with its income per capita limit set to {@code maxIncomePerCapita}.
+     * A condition without an income per capita limit is returned unchanged.
+     */
+    public EligibilityCondition withMaxIncomePerCapita(double maxIncomePerCapita) {
+        if (this.maxIncomePerCapita == Double.POSITIVE_INFINITY) {
+            return this;
+        }
+        return new EligibilityCondition(maxIncome, maxIncomePerCapita, minFamilySize, maxFamilySize);
+    }
+
+    /**
+     * Returns true if a household with the given finances meets every limit of this condition.
+     */
+    public boolean isMetBy(double income, int familySize, int incomePerCapita) {
+        return income <= maxIncome
+                && incomePerCapita <= maxIncomePerCapita
+                && familySize >= minFamilySize
+                && familySize <= maxFamilySize;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof EligibilityCondition otherCondition)) {
+            return false;
+        }
+
+        return maxIncome == otherCondition.maxIncome
+                && maxIncomePerCapita == otherCondition.maxIncomePerCapita
+                && minFamilySize == otherCondition.minFamilySize
+                && maxFamilySize == otherCondition.maxFamilySize;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(maxIncome, maxIncomePerCapita, minFamilySize, maxFamilySize);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("maxIncome", maxIncome)
+                .add("maxIncomePerCapita", maxIncomePerCapita)
+                .add("minFamilySize", minFamilySize)
+                .add("maxFamilySize", maxFamilySize)
+                .toString();
+    }
+}
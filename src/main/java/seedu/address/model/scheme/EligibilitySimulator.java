@@ -0,0 +1,113 @@
+package seedu.address.model.scheme;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.nio.LongBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Works out which persons would gain or lose eligibility for schemes if the current schemes were replaced by
+ * proposed ones, without changing any person.
+ * The persons are split into ranges that are evaluated in parallel, each against both tables at once.
+ */
+public class EligibilitySimulator {
+
+    public static final String MESSAGE_MISMATCHED_TABLES = "Both tables must have the same schemes in the same order";
+
+    /** Ranges of at most this many persons are evaluated directly instead of being split further. */
+    static final int SEQUENTIAL_THRESHOLD = 2048;
+
+    private final SchemeTable currentSchemes;
+    private final SchemeTable proposedSchemes;
+
+    /**
+     * Creates a simulator of replacing {@code currentSchemes} by {@code proposedSchemes}.
+     *
+     * @throws IllegalArgumentException if the tables do not hold the same schemes in the same order.
+     */
+    public EligibilitySimulator(SchemeTable currentSchemes, SchemeTable proposedSchemes) {
+        requireAllNonNull(currentSchemes, proposedSchemes);
+        checkArgument(currentSchemes.getSchemes().equals(proposedSchemes.getSchemes()), MESSAGE_MISMATCHED_TABLES);
+        this.currentSchemes = currentSchemes;
+        this.proposedSchemes = proposedSchemes;
+    }
+
+    /**
+     * Returns the changes in scheme eligibility of {@code persons}, in the order the persons are given.
+     * The persons are copied first, so {@code persons} may be changed while the simulation runs.
+     */
+    public EligibilityChanges simulate(List<Person> persons) {
+        List<Person> snapshot = List.copyOf(persons);
+        return ForkJoinPool.commonPool().invoke(new SimulationTask(snapshot, 0, snapshot.size()));
+    }
+
+    /**
+     * Simulates the persons in one range of the snapshot, splitting the range in half until it is small enough.
+     */
+    private class SimulationTask extends RecursiveTask<EligibilityChanges> {
+
+        private final List<Person> persons;
+        private final int from;
+        private final int to;
+
+        SimulationTask(List<Person> persons, int from, int to) {
+            this.persons = persons;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected EligibilityChanges compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                return computeDirectly();
+            }
+
+            int mid = (from + to) >>> 1;
+            SimulationTask left = new SimulationTask(persons, from, mid);
+            left.fork();
+            EligibilityChanges rightChanges = new SimulationTask(persons, mid, to).compute();
+            return left.join().merge(rightChanges);
+        }
+
+        private EligibilityChanges computeDirectly() {
+            int count = to - from;
+            double[] incomes = new double[count];
+            int[] familySizes = new int[count];
+            for (int i = 0; i < count; i++) {
+                Person person = persons.get(from + i);
+                incomes[i] = person.getIncome().getValue();
+                familySizes[i] = person.getFamilySize().getValue();
+            }
+
+            long[] currentEligibilities = currentSchemes.evaluate(incomes, familySizes);
+            long[] proposedEligibilities = proposedSchemes.evaluate(incomes, familySizes);
+            int words = currentSchemes.getWordsPerHousehold();
+
+            List<Person> affected = new ArrayList<>();
+            List<BitSet> affectedCurrent = new ArrayList<>();
+            List<BitSet> affectedProposed = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                int start = i * words;
+                if (!Arrays.equals(currentEligibilities, start, start + words,
+                        proposedEligibilities, start, start + words)) {
+                    affectedCurrent.add(BitSet.valueOf(LongBuffer.wrap(currentEligibilities, start, words)));
+                    affectedProposed.add(BitSet.valueOf(LongBuffer.wrap(proposedEligibilities, start, words)));
+                    affected.add(persons.get(from + i));
+                }
+            }
+
+            if (affected.isEmpty()) {
+                return EligibilityChanges.none();
+            }
+            return new EligibilityChanges(affected, affectedCurrent, affectedProposed);
+        }
+    }
+}
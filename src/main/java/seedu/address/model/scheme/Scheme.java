@@ -1,38 +1,141 @@
 package seedu.address.model.scheme;
 
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.util.ToStringBuilder;
+
 /**
  * Represents a financial scheme in the address book.
+ * A household is eligible for a scheme if it meets any of the scheme's conditions.
+ * Schemes are defined in a scheme definitions file and hold no other state, so each registered scheme is shared
+ * rather than created anew wherever it is needed.
+ * Guarantees: immutable.
  */
-public abstract class Scheme {
+public class Scheme {
+
+    private final String name;
+    private final String shortName;
+    private final List<EligibilityCondition> conditions;
+
+    /**
+     * Constructs a {@code Scheme} that households meeting any of {@code conditions} are eligible for.
+     */
+    public Scheme(String name, String shortName, List<EligibilityCondition> conditions) {
+        requireAllNonNull(name, shortName, conditions);
+        this.name = name;
+        this.shortName = shortName;
+        this.conditions = List.copyOf(conditions);
+    }
+
+    /**
+     * Returns a {@code Scheme} read from scheme definitions, in which a scheme without conditions has none.
+     */
+    @JsonCreator
+    private static Scheme fromDefinition(@JsonProperty("name") String name,
+            @JsonProperty("shortName") String shortName,
+            @JsonProperty("conditions") List<EligibilityCondition> conditions) {
+        return new Scheme(name, shortName, conditions == null ? List.of() : conditions);
+    }
+
+    /**
+     * Returns the shared instances of every registered scheme, in the order they are defined.
+     */
+    public static List<Scheme> getRegisteredSchemes() {
+        return SchemeTable.getDefault().getSchemes();
+    }
 
     /**
      * Returns true if the person is eligible for the scheme.
      */
-    public abstract boolean isEligible(double income, int familySize, int incomePerCapita);
+    public boolean isEligible(double income, int familySize, int incomePerCapita) {
+        for (EligibilityCondition condition : conditions) {
+            if (condition.isMetBy(income, familySize, incomePerCapita)) {
+                return true;
+            }
+        }
+        return false;
+    }
 
     /**
      * Returns the name of the scheme.
      */
-    public abstract String getSchemeName();
-
+    public String getSchemeName() {
+        return name;
+    }
 
     /**
      * Returns the short name of the scheme.
      */
-    public abstract String getSchemeNameShort();
+    public String getSchemeNameShort() {
+        return shortName;
+    }
+
+    /**
+     * Returns an immutable list of the conditions of the scheme, any of which makes a household eligible.
+     */
+    public List<EligibilityCondition> getConditions() {
+        return conditions;
+    }
+
+    /**
+     * Returns a copy of this scheme with the income limit of each of its conditions set to {@code maxIncome}.
+     */
+    public Scheme withMaxIncome(double maxIncome) {
+        return withConditions(condition -> condition.withMaxIncome(maxIncome));
+    }
+
+    /**
+     * Returns a copy of this scheme with the income per capita limit of each of its conditions set to
+     * {@code maxIncomePerCapita}.
+     */
+    public Scheme withMaxIncomePerCapita(double maxIncomePerCapita) {
+        return withConditions(condition -> condition.withMaxIncomePerCapita(maxIncomePerCapita));
+    }
+
+    private Scheme withConditions(UnaryOperator<EligibilityCondition> changeCondition) {
+        return new Scheme(name, shortName, conditions.stream().map(changeCondition).toList());
+    }
 
     /**
-     * Create schemes from storage.
+     * Returns the shared instance of the registered scheme named {@code schemeName}, for schemes read from storage.
      */
     public static Scheme createScheme(String schemeName) throws IllegalArgumentException {
-        switch (schemeName) {
-        case MoeFinancialAssistanceScheme.SCHEME_NAME:
-            return new MoeFinancialAssistanceScheme();
-        case StudentCareFeeAssistanceScheme.SCHEME_NAME:
-            return new StudentCareFeeAssistanceScheme();
-        default:
-            throw new IllegalArgumentException("Scheme not found");
+        return SchemeTable.getDefault().getScheme(schemeName)
+                .orElseThrow(() -> new IllegalArgumentException("Scheme not found"));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
         }
+
+        // instanceof handles nulls
+        if (!(other instanceof Scheme otherScheme)) {
+            return false;
+        }
+
+        // schemes are identified by name
+        return name.equals(otherScheme.name);
     }
 
+    @Override
+    public int hashCode() {
+        return name.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("name", name)
+                .add("shortName", shortName)
+                .add("conditions", conditions)
+                .toString();
+    }
 }
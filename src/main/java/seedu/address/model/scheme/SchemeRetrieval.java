@@ -2,9 +2,9 @@ package seedu.address.model.scheme;
 
 import static java.util.Objects.requireNonNull;
 
-import java.time.LocalDate;
-import java.time.Period;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
 
 import seedu.address.model.person.Person;
 
@@ -14,28 +14,12 @@ import seedu.address.model.person.Person;
 public class SchemeRetrieval {
 
     private final Person targetFamily;
-    private final double income;
-    private final int age;
-    private final int familySize;
-
-    private final int incomePerCapita;
-
-    private final ArrayList<Scheme> schemes = new ArrayList<>();
-
-    private final ArrayList<Scheme> allSchemes = new ArrayList<>();
 
     /**
      * Constructor for SchemeRetrieval.
      */
     public SchemeRetrieval(Person targetFamily) {
         this.targetFamily = targetFamily;
-        this.income = targetFamily.getIncome().getValue();
-        LocalDate currentDate = LocalDate.now();
-        this.age = Period.between(targetFamily.getDateOfBirth().getValue(), currentDate).getYears();
-        this.familySize = targetFamily.getFamilySize().getValue();
-        this.incomePerCapita = (int) Math.round(income / familySize);
-        allSchemes.add(new MoeFinancialAssistanceScheme());
-        allSchemes.add(new StudentCareFeeAssistanceScheme());
     }
 
     /**
@@ -44,10 +28,11 @@ public class SchemeRetrieval {
      */
     public ArrayList<Scheme> getSchemes() {
         requireNonNull(targetFamily);
-        for (Scheme scheme : allSchemes) {
-            if (scheme.isEligible(income, familySize, incomePerCapita)) {
-                schemes.add(scheme);
-            }
+        BitSet eligibility = targetFamily.getSchemeEligibility();
+        List<Scheme> allSchemes = Scheme.getRegisteredSchemes();
+        ArrayList<Scheme> schemes = new ArrayList<>();
+        for (int i = eligibility.nextSetBit(0); i >= 0; i = eligibility.nextSetBit(i + 1)) {
+            schemes.add(allSchemes.get(i));
         }
         return schemes;
     }
@@ -0,0 +1,223 @@
+package seedu.address.model.scheme;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.commons.util.JsonUtil;
+
+/**
+ * Compiles a list of schemes into a flat table with one row of limits per eligibility condition, so that every
+ * scheme can be evaluated for a household in a single loop over plain arrays instead of through each scheme.
+ * The schemes a household is eligible for are returned as a set of bits, with bit {@code i} set for the {@code i}-th
+ * scheme in the table. There is no limit on the number of schemes; each household takes one {@code long} word per
+ * 64 schemes.
+ */
+public class SchemeTable {
+
+    public static final String DEFAULT_SCHEMES_RESOURCE = "/schemes/schemes.json";
+    public static final String MESSAGE_INVALID_SCHEME = "Every scheme must have a name and a short name";
+    public static final String MESSAGE_DUPLICATE_SCHEME = "Scheme names must be unique";
+
+    private static final SchemeTable DEFAULT = loadDefault();
+
+    private final List<Scheme> schemes;
+    private final int wordsPerHousehold;
+
+    // one entry per eligibility condition, across all schemes
+    private final int[] schemeIndexes;
+    private final double[] maxIncomes;
+    private final double[] maxIncomesPerCapita;
+    private final int[] minFamilySizes;
+    private final int[] maxFamilySizes;
+
+    /**
+     * Compiles {@code schemes} into a table.
+     *
+     * @throws IllegalArgumentException if a scheme is unnamed or named twice.
+     */
+    public SchemeTable(List<Scheme> schemes) {
+        requireNonNull(schemes);
+        Set<String> names = new HashSet<>();
+        int conditionCount = 0;
+        for (Scheme scheme : schemes) {
+            checkArgument(scheme.getSchemeName() != null && scheme.getSchemeNameShort() != null,
+                    MESSAGE_INVALID_SCHEME);
+            checkArgument(names.add(scheme.getSchemeName()), MESSAGE_DUPLICATE_SCHEME);
+            conditionCount += scheme.getConditions().size();
+        }
+
+        this.schemes = List.copyOf(schemes);
+        wordsPerHousehold = (schemes.size() + Long.SIZE - 1) / Long.SIZE;
+        schemeIndexes = new int[conditionCount];
+        maxIncomes = new double[conditionCount];
+        maxIncomesPerCapita = new double[conditionCount];
+        minFamilySizes = new int[conditionCount];
+        maxFamilySizes = new int[conditionCount];
+
+        int row = 0;
+        for (int i = 0; i < schemes.size(); i++) {
+            for (EligibilityCondition condition : schemes.get(i).getConditions()) {
+                schemeIndexes[row] = i;
+                maxIncomes[row] = condition.getMaxIncome();
+                maxIncomesPerCapita[row] = condition.getMaxIncomePerCapita();
+                minFamilySizes[row] = condition.getMinFamilySize();
+                maxFamilySizes[row] = condition.getMaxFamilySize();
+                row++;
+            }
+        }
+    }
+
+    /**
+     * Returns the table of the schemes defined in the scheme definitions bundled with the app.
+     */
+    public static SchemeTable getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Returns a table of the schemes defined in {@code json}, which holds an array of scheme definitions.
+     *
+     * @throws IOException if {@code json} does not hold valid scheme definitions.
+     */
+    public static SchemeTable fromJsonString(String json) throws IOException {
+        requireNonNull(json);
+        try {
+            return new SchemeTable(List.of(JsonUtil.fromJsonString(json, Scheme[].class)));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IOException("Invalid scheme definitions: " + e.getMessage(), e);
+        }
+    }
+
+    private static SchemeTable loadDefault() {
+        try (InputStream in = SchemeTable.class.getResourceAsStream(DEFAULT_SCHEMES_RESOURCE)) {
+            if (in == null) {
+                throw new IOException(DEFAULT_SCHEMES_RESOURCE + " not found");
+            }
+            return fromJsonString(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            // the definitions are bundled with the app, so this only happens if the app itself is broken
+            throw new IllegalStateException("Could not load scheme definitions", e);
+        }
+    }
+
+    /**
+     * Returns the schemes in the table, in order.
+     */
+    public List<Scheme> getSchemes() {
+        return schemes;
+    }
+
+    /**
+     * Returns the number of {@code long} words holding the eligibility of each household in a batch evaluation.
+     *
+     * @see #evaluate(double[], int[])
+     */
+    public int getWordsPerHousehold() {
+        return wordsPerHousehold;
+    }
+
+    /**
+     * Returns the scheme in the table named {@code schemeName}, if any.
+     */
+    public Optional<Scheme> getScheme(String schemeName) {
+        requireNonNull(schemeName);
+        return schemes.stream().filter(scheme -> scheme.getSchemeName().equals(schemeName)).findFirst();
+    }
+
+    /**
+     * Returns the scheme in the table with the short name {@code schemeNameShort}, ignoring case, if any.
+     */
+    public Optional<Scheme> getSchemeByShortName(String schemeNameShort) {
+        requireNonNull(schemeNameShort);
+        return schemes.stream()
+                .filter(scheme -> scheme.getSchemeNameShort().equalsIgnoreCase(schemeNameShort))
+                .findFirst();
+    }
+
+    /**
+     * Returns a copy of this table with the scheme of the same name as {@code replacement} replaced by it.
+     * The replacement keeps the position of the scheme it replaces, so eligibilities from both tables line up.
+     *
+     * @throws IllegalArgumentException if the table has no scheme of that name.
+     */
+    public SchemeTable withScheme(Scheme replacement) {
+        requireNonNull(replacement);
+        int index = schemes.indexOf(replacement);
+        checkArgument(index >= 0, "Scheme not found");
+        List<Scheme> replacedSchemes = new ArrayList<>(schemes);
+        replacedSchemes.set(index, replacement);
+        return new SchemeTable(replacedSchemes);
+    }
+
+    /**
+     * Returns the schemes that a household with the given {@code income} and {@code familySize} is eligible for.
+     */
+    public BitSet evaluate(double income, int familySize) {
+        int incomePerCapita = getIncomePerCapita(income, familySize);
+        BitSet eligibility = new BitSet(schemes.size());
+        for (int row = 0; row < schemeIndexes.length; row++) {
+            if (income <= maxIncomes[row]
+                    && incomePerCapita <= maxIncomesPerCapita[row]
+                    && familySize >= minFamilySizes[row]
+                    && familySize <= maxFamilySizes[row]) {
+                eligibility.set(schemeIndexes[row]);
+            }
+        }
+        return eligibility;
+    }
+
+    /**
+     * Returns the schemes that each of a batch of households is eligible for, where household {@code i} has income
+     * {@code incomes[i]} and family size {@code familySizes[i]}.
+     * The eligibility of household {@code i} is held in the {@link #getWordsPerHousehold()} words starting at
+     * {@code i * getWordsPerHousehold()}, with scheme {@code j} at bit {@code j % 64} of the {@code j / 64}-th word.
+     * Each condition is applied to the whole batch in turn, so the inner loop runs over plain arrays only.
+     */
+    public long[] evaluate(double[] incomes, int[] familySizes) {
+        requireNonNull(incomes);
+        requireNonNull(familySizes);
+        checkArgument(incomes.length == familySizes.length, "Every household must have an income and a family size");
+
+        int householdCount = incomes.length;
+        int[] incomesPerCapita = new int[householdCount];
+        for (int i = 0; i < householdCount; i++) {
+            incomesPerCapita[i] = getIncomePerCapita(incomes[i], familySizes[i]);
+        }
+
+        long[] eligibilities = new long[householdCount * wordsPerHousehold];
+        for (int row = 0; row < schemeIndexes.length; row++) {
+            int schemeWord = schemeIndexes[row] / Long.SIZE;
+            long schemeBit = 1L << (schemeIndexes[row] % Long.SIZE);
+            double maxIncome = maxIncomes[row];
+            double maxIncomePerCapita = maxIncomesPerCapita[row];
+            int minFamilySize = minFamilySizes[row];
+            int maxFamilySize = maxFamilySizes[row];
+            for (int i = 0; i < householdCount; i++) {
+                if (incomes[i] <= maxIncome
+                        && incomesPerCapita[i] <= maxIncomePerCapita
+                        && familySizes[i] >= minFamilySize
+                        && familySizes[i] <= maxFamilySize) {
+                    eligibilities[i * wordsPerHousehold + schemeWord] |= schemeBit;
+                }
+            }
+        }
+        return eligibilities;
+    }
+
+    /**
+     * Returns the income per family member of a household, rounded to the nearest dollar.
+     */
+    public static int getIncomePerCapita(double income, int familySize) {
+        return (int) Math.round(income / familySize);
+    }
+}
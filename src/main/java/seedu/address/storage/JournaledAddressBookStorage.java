@@ -0,0 +1,205 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored as a JSON snapshot plus a journal of the changes made since.
+ * Each save appends only the persons that changed since the previous save to the journal. Once the journal
+ * holds {@code compactionThreshold} entries, the next save folds it into a new snapshot instead.
+ * Each snapshot written by compaction gets a new random id, and the journal is only replayed on top of the
+ * snapshot whose id it names, so a crash between writing a snapshot and deleting the old journal loses nothing.
+ * Saves are made on the background save thread, so compaction does not hold up commands either.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 500;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final JsonAddressBookStorage snapshotStorage;
+    private final JsonJournal journal;
+    private final int compactionThreshold;
+
+    /** The persons as last written to {@code filePath}, or null if the snapshot has not been read or written. */
+    private List<Person> savedPersons;
+    private int journalSize;
+    /** The id of the snapshot at {@code filePath}, which the journal applies to. */
+    private long snapshotId;
+
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that keeps its snapshot at {@code filePath} and
+     * compacts the journal once it holds {@code compactionThreshold} entries.
+     */
+    public JournaledAddressBookStorage(Path filePath, int compactionThreshold) {
+        requireNonNull(filePath);
+        snapshotStorage = new JsonAddressBookStorage(filePath);
+        journal = new JsonJournal(filePath);
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Reads the snapshot at {@code filePath} and replays its journal on top of it.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<JsonSnapshot<ReadOnlyAddressBook>> snapshot = snapshotStorage.readSnapshot(filePath);
+        long readSnapshotId = snapshot.map(JsonSnapshot::getSnapshotId).orElse(0L);
+        List<JsonAdaptedJournalEntry> entries;
+        try {
+            entries = new JsonJournal(filePath).read(readSnapshotId);
+        } catch (IOException e) {
+            logger.warning("Error reading journal of " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        if (snapshot.isEmpty() && entries.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Map<Name, Person> persons = new LinkedHashMap<>();
+        snapshot.ifPresent(addressBook -> addressBook.getData().getPersonList()
+                .forEach(person -> persons.put(person.getName(), person)));
+        try {
+            for (JsonAdaptedJournalEntry entry : entries) {
+                entry.applyToPersons(persons);
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in journal of " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(new ArrayList<>(persons.values()));
+
+        if (filePath.equals(getAddressBookFilePath())) {
+            savedPersons = List.copyOf(addressBook.getPersonList());
+            journalSize = entries.size();
+            snapshotId = readSnapshotId;
+        }
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only saves to this storage's own file are journaled; other files get a full snapshot.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireAllNonNull(addressBook, filePath);
+
+        if (!filePath.equals(getAddressBookFilePath())) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            new JsonJournal(filePath).clear();
+            return;
+        }
+
+        List<Person> persons = List.copyOf(addressBook.getPersonList());
+        if (savedPersons == null || journalSize >= compactionThreshold) {
+            compact(addressBook, persons);
+            return;
+        }
+
+        List<JsonAdaptedJournalEntry> entries = getChanges(savedPersons, persons);
+        if (entries.size() >= persons.size()) {
+            compact(addressBook, persons); // the snapshot is no larger than the changes
+            return;
+        }
+
+        journal.append(entries, snapshotId);
+        journalSize += entries.size();
+        savedPersons = persons;
+    }
+
+    private void compact(ReadOnlyAddressBook addressBook, List<Person> persons) throws IOException {
+        logger.fine("Compacting journal of " + getAddressBookFilePath());
+        savedPersons = null; // so that if this fails, the next save compacts again instead of appending
+        long newSnapshotId = ThreadLocalRandom.current().nextLong();
+        snapshotStorage.saveSnapshot(addressBook, getAddressBookFilePath(), newSnapshotId);
+        snapshotId = newSnapshotId; // the old journal no longer applies, even if it cannot be deleted
+        journal.clear();
+        savedPersons = persons;
+        journalSize = 0;
+    }
+
+    /**
+     * Returns the entries that turn {@code oldPersons} into {@code newPersons}.
+     * Commands change a single contiguous run of the list, so only the run between the longest unchanged
+     * prefix and suffix is compared.
+     */
+    private static List<JsonAdaptedJournalEntry> getChanges(List<Person> oldPersons, List<Person> newPersons) {
+        int start = 0;
+        while (start < oldPersons.size() && start < newPersons.size()
+                && oldPersons.get(start) == newPersons.get(start)) {
+            start++;
+        }
+
+        int oldEnd = oldPersons.size();
+        int newEnd = newPersons.size();
+        while (oldEnd > start && newEnd > start && oldPersons.get(oldEnd - 1) == newPersons.get(newEnd - 1)) {
+            oldEnd--;
+            newEnd--;
+        }
+
+        List<Person> addedPersons = newPersons.subList(start, newEnd);
+        Set<Name> addedNames = new HashSet<>();
+        addedPersons.forEach(person -> addedNames.add(person.getName()));
+
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        for (Person removedPerson : oldPersons.subList(start, oldEnd)) {
+            if (!addedNames.contains(removedPerson.getName())) {
+                entries.add(JsonAdaptedJournalEntry.removePerson(removedPerson.getName()));
+            }
+        }
+        for (Person addedPerson : addedPersons) {
+            entries.add(JsonAdaptedJournalEntry.putPerson(addedPerson));
+        }
+        return entries;
+    }
+}
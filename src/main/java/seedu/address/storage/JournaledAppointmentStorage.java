@@ -0,0 +1,195 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.appointment.Appointment;
+
+/**
+ * A class to access Appointment data stored as a JSON snapshot plus a journal of the changes made since.
+ * Works the same way as {@link JournaledAddressBookStorage}.
+ */
+public class JournaledAppointmentStorage implements AppointmentStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 500;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAppointmentStorage.class);
+
+    private final JsonAppointmentStorage snapshotStorage;
+    private final JsonJournal journal;
+    private final int compactionThreshold;
+
+    /** The appointments as last written to {@code filePath}, or null if they have not been read or written. */
+    private List<Appointment> savedAppointments;
+    private int journalSize;
+    /** The id of the snapshot at {@code filePath}, which the journal applies to. */
+    private long snapshotId;
+
+    public JournaledAppointmentStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournaledAppointmentStorage} that keeps its snapshot at {@code filePath} and
+     * compacts the journal once it holds {@code compactionThreshold} entries.
+     */
+    public JournaledAppointmentStorage(Path filePath, int compactionThreshold) {
+        requireNonNull(filePath);
+        snapshotStorage = new JsonAppointmentStorage(filePath);
+        journal = new JsonJournal(filePath);
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    @Override
+    public Path getAppointmentFilePath() {
+        return snapshotStorage.getAppointmentFilePath();
+    }
+
+    @Override
+    public Optional<List<Appointment>> readAppointments() throws DataLoadingException {
+        return readAppointments(getAppointmentFilePath());
+    }
+
+    /**
+     * Reads the snapshot at {@code filePath} and replays its journal on top of it.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public synchronized Optional<List<Appointment>> readAppointments(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<JsonSnapshot<List<Appointment>>> snapshot = snapshotStorage.readSnapshot(filePath);
+        long readSnapshotId = snapshot.map(JsonSnapshot::getSnapshotId).orElse(0L);
+        List<JsonAdaptedJournalEntry> entries;
+        try {
+            entries = new JsonJournal(filePath).read(readSnapshotId);
+        } catch (IOException e) {
+            logger.warning("Error reading journal of " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        if (snapshot.isEmpty() && entries.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Set<Appointment> appointments = new LinkedHashSet<>(snapshot.map(JsonSnapshot::getData).orElseGet(List::of));
+        try {
+            for (JsonAdaptedJournalEntry entry : entries) {
+                entry.applyToAppointments(appointments);
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in journal of " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        List<Appointment> appointmentList = new ArrayList<>(appointments);
+        if (filePath.equals(getAppointmentFilePath())) {
+            savedAppointments = List.copyOf(appointmentList);
+            journalSize = entries.size();
+            snapshotId = readSnapshotId;
+        }
+        return Optional.of(appointmentList);
+    }
+
+    @Override
+    public void saveAppointments(List<Appointment> appointments) throws IOException {
+        saveAppointments(appointments, getAppointmentFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveAppointments(List)}.
+     * Only saves to this storage's own file are journaled; other files get a full snapshot.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAppointments(List<Appointment> appointments, Path filePath) throws IOException {
+        requireAllNonNull(appointments, filePath);
+
+        if (!filePath.equals(getAppointmentFilePath())) {
+            snapshotStorage.saveAppointments(appointments, filePath);
+            new JsonJournal(filePath).clear();
+            return;
+        }
+
+        List<Appointment> appointmentsToSave = List.copyOf(appointments);
+        if (savedAppointments == null || journalSize >= compactionThreshold) {
+            compact(appointmentsToSave);
+            return;
+        }
+
+        List<JsonAdaptedJournalEntry> entries = getChanges(savedAppointments, appointmentsToSave);
+        if (entries.size() >= appointmentsToSave.size()) {
+            compact(appointmentsToSave); // the snapshot is no larger than the changes
+            return;
+        }
+
+        journal.append(entries, snapshotId);
+        journalSize += entries.size();
+        savedAppointments = appointmentsToSave;
+    }
+
+    private void compact(List<Appointment> appointments) throws IOException {
+        logger.fine("Compacting journal of " + getAppointmentFilePath());
+        savedAppointments = null; // so that if this fails, the next save compacts again instead of appending
+        long newSnapshotId = ThreadLocalRandom.current().nextLong();
+        snapshotStorage.saveSnapshot(appointments, getAppointmentFilePath(), newSnapshotId);
+        snapshotId = newSnapshotId; // the old journal no longer applies, even if it cannot be deleted
+        journal.clear();
+        savedAppointments = appointments;
+        journalSize = 0;
+    }
+
+    /**
+     * Returns the entries that turn {@code oldAppointments} into {@code newAppointments}.
+     * Only the run between the longest unchanged prefix and suffix is compared.
+     */
+    private static List<JsonAdaptedJournalEntry> getChanges(List<Appointment> oldAppointments,
+            List<Appointment> newAppointments) {
+        int start = 0;
+        while (start < oldAppointments.size() && start < newAppointments.size()
+                && oldAppointments.get(start).equals(newAppointments.get(start))) {
+            start++;
+        }
+
+        int oldEnd = oldAppointments.size();
+        int newEnd = newAppointments.size();
+        while (oldEnd > start && newEnd > start
+                && oldAppointments.get(oldEnd - 1).equals(newAppointments.get(newEnd - 1))) {
+            oldEnd--;
+            newEnd--;
+        }
+
+        Set<Appointment> removedAppointments = new HashSet<>(oldAppointments.subList(start, oldEnd));
+        Set<Appointment> addedAppointments = new HashSet<>(newAppointments.subList(start, newEnd));
+
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        for (Appointment removedAppointment : oldAppointments.subList(start, oldEnd)) {
+            if (!addedAppointments.contains(removedAppointment)) {
+                entries.add(JsonAdaptedJournalEntry.removeAppointment(removedAppointment));
+            }
+        }
+        for (Appointment addedAppointment : newAppointments.subList(start, newEnd)) {
+            if (!removedAppointments.contains(addedAppointment)) {
+                entries.add(JsonAdaptedJournalEntry.addAppointment(addedAppointment));
+            }
+        }
+        return entries;
+    }
+}
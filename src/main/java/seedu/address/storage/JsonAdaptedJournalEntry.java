@@ -0,0 +1,140 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly record of a single change to the persons or appointments, as stored in a {@link JsonJournal}.
+ * Applying an entry more than once has the same effect as applying it once.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalEntry {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal entry's %s field is missing!";
+
+    /**
+     * The kinds of change that can be recorded.
+     */
+    enum Operation {
+        PUT_PERSON, REMOVE_PERSON, ADD_APPOINTMENT, REMOVE_APPOINTMENT
+    }
+
+    private final Operation operation;
+    private final JsonAdaptedPerson person;
+    private final Boolean isArchived;
+    private final String name;
+    private final JsonAdaptedAppointment appointment;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(
+            @JsonProperty("operation") Operation operation,
+            @JsonProperty("person") JsonAdaptedPerson person,
+            @JsonProperty("isArchived") Boolean isArchived,
+            @JsonProperty("name") String name,
+            @JsonProperty("appointment") JsonAdaptedAppointment appointment) {
+        this.operation = operation;
+        this.person = person;
+        this.isArchived = isArchived;
+        this.name = name;
+        this.appointment = appointment;
+    }
+
+    /**
+     * Returns an entry that adds {@code person}, replacing any person with the same name.
+     */
+    public static JsonAdaptedJournalEntry putPerson(Person person) {
+        requireNonNull(person);
+        return new JsonAdaptedJournalEntry(Operation.PUT_PERSON, new JsonAdaptedPerson(person),
+                person.isArchived(), null, null);
+    }
+
+    /**
+     * Returns an entry that removes the person with the given {@code name}.
+     */
+    public static JsonAdaptedJournalEntry removePerson(Name name) {
+        requireNonNull(name);
+        return new JsonAdaptedJournalEntry(Operation.REMOVE_PERSON, null, null, name.fullName, null);
+    }
+
+    /**
+     * Returns an entry that adds {@code appointment}.
+     */
+    public static JsonAdaptedJournalEntry addAppointment(Appointment appointment) {
+        requireNonNull(appointment);
+        return new JsonAdaptedJournalEntry(Operation.ADD_APPOINTMENT, null, null, null,
+                new JsonAdaptedAppointment(appointment));
+    }
+
+    /**
+     * Returns an entry that removes {@code appointment}.
+     */
+    public static JsonAdaptedJournalEntry removeAppointment(Appointment appointment) {
+        requireNonNull(appointment);
+        return new JsonAdaptedJournalEntry(Operation.REMOVE_APPOINTMENT, null, null, null,
+                new JsonAdaptedAppointment(appointment));
+    }
+
+    /**
+     * Applies this entry to {@code persons}, which are keyed by name. Entries about appointments are ignored.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in this entry.
+     */
+    public void applyToPersons(Map<Name, Person> persons) throws IllegalValueException {
+        switch (requireField(operation, "operation")) {
+        case PUT_PERSON:
+            JsonAdaptedPerson jsonAdaptedPerson = requireField(person, "person");
+            Person modelPerson = Boolean.TRUE.equals(isArchived)
+                    ? jsonAdaptedPerson.toArchivedModelType()
+                    : jsonAdaptedPerson.toModelType();
+            persons.put(modelPerson.getName(), modelPerson);
+            break;
+        case REMOVE_PERSON:
+            if (!Name.isValidName(requireField(name, "name"))) {
+                throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+            }
+            persons.remove(new Name(name));
+            break;
+        default:
+            break;
+        }
+    }
+
+    /**
+     * Applies this entry to {@code appointments}. Entries about persons are ignored.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in this entry.
+     */
+    public void applyToAppointments(Set<Appointment> appointments) throws IllegalValueException {
+        switch (requireField(operation, "operation")) {
+        case ADD_APPOINTMENT:
+            appointments.add(requireField(appointment, "appointment").toModelType());
+            break;
+        case REMOVE_APPOINTMENT:
+            appointments.remove(requireField(appointment, "appointment").toModelType());
+            break;
+        default:
+            break;
+        }
+    }
+
+    private static <T> T requireField(T value, String fieldName) throws IllegalValueException {
+        if (value == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldName));
+        }
+        return value;
+    }
+}
@@ -3,22 +3,36 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
 
 /**
  * A class to access AddressBook data stored as a JSON file on the hard disk.
+ * The file is read as a stream, so each person is converted into the model as soon as it is parsed.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
+    public static final String MESSAGE_INVALID_PERSON_RECORD = "Invalid entry %1$d in %2$s: %3$s";
+    public static final String MESSAGE_MISSING_PERSONS = "Address book has no persons field.";
+
+    private static final String PERSONS_FIELD = "persons";
+    private static final String ARCHIVED_PERSONS_FIELD = "archivedPersons";
+    private static final String SNAPSHOT_ID_FIELD = "snapshotId";
+
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private final Path filePath;
@@ -43,22 +57,101 @@ public class JsonAddressBookStorage implements AddressBookStorage {
      * @throws DataLoadingException if loading the data from storage failed.
      */
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return readSnapshot(filePath).map(JsonSnapshot::getData);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook(Path)}, but also returns the id the address book was saved with.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    Optional<JsonSnapshot<ReadOnlyAddressBook>> readSnapshot(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (jsonAddressBook.isEmpty()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
+        logger.info("JSON file " + filePath + " found.");
 
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+        try (JsonParser parser = JsonUtil.createJsonFileParser(filePath)) {
+            return Optional.of(readSnapshot(parser));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
     }
 
+    /**
+     * Reads an address book object from {@code parser}, adding each person to the result as it is parsed.
+     * Fields other than the person lists and snapshot id are skipped.
+     */
+    private static JsonSnapshot<ReadOnlyAddressBook> readSnapshot(JsonParser parser)
+            throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected an address book object");
+        }
+
+        AddressBook addressBook = new AddressBook();
+        long snapshotId = 0;
+        boolean hasPersons = false;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (PERSONS_FIELD.equals(fieldName) && valueToken != JsonToken.VALUE_NULL) {
+                hasPersons = true;
+                readPersons(parser, fieldName, false, addressBook);
+            } else if (ARCHIVED_PERSONS_FIELD.equals(fieldName) && valueToken != JsonToken.VALUE_NULL) {
+                readPersons(parser, fieldName, true, addressBook);
+            } else if (SNAPSHOT_ID_FIELD.equals(fieldName) && valueToken == JsonToken.VALUE_NUMBER_INT) {
+                snapshotId = parser.getLongValue();
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        if (!hasPersons) {
+            throw new IllegalValueException(MESSAGE_MISSING_PERSONS);
+        }
+        return new JsonSnapshot<>(addressBook, snapshotId);
+    }
+
+    /**
+     * Reads the array of persons at the current position of {@code parser} into {@code addressBook},
+     * holding only one {@code JsonAdaptedPerson} in memory at a time.
+     *
+     * @throws IllegalValueException if a person is invalid or already in {@code addressBook}.
+     */
+    private static void readPersons(JsonParser parser, String fieldName, boolean isArchived,
+            AddressBook addressBook) throws IOException, IllegalValueException {
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Expected an array of persons in " + fieldName);
+        }
+
+        int recordNumber = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            recordNumber++;
+            JsonAdaptedPerson jsonAdaptedPerson = parser.readValueAs(JsonAdaptedPerson.class);
+
+            Person person;
+            try {
+                person = isArchived ? jsonAdaptedPerson.toArchivedModelType() : jsonAdaptedPerson.toModelType();
+            } catch (IllegalValueException ive) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_PERSON_RECORD,
+                        recordNumber, fieldName, ive.getMessage()), ive);
+            }
+
+            if (addressBook.hasPerson(person)) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_PERSON_RECORD,
+                        recordNumber, fieldName, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON));
+            }
+            addressBook.addPerson(person);
+        }
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, filePath);
@@ -73,7 +166,17 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
         JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
     }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook, Path)}, but also writes {@code snapshotId}
+     * into the file.
+     */
+    void saveSnapshot(ReadOnlyAddressBook addressBook, Path filePath, long snapshotId) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook, snapshotId), filePath);
+    }
 }
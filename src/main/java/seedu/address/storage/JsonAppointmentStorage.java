@@ -11,7 +11,6 @@ import java.util.logging.Logger;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.appointment.Appointment;
 
@@ -46,6 +45,16 @@ public class JsonAppointmentStorage implements AppointmentStorage {
      */
     @Override
     public Optional<List<Appointment>> readAppointments(Path filePath) throws DataLoadingException {
+        return readSnapshot(filePath).map(JsonSnapshot::getData);
+    }
+
+    /**
+     * Similar to {@link #readAppointments(Path)}, but also returns the id the appointments were saved with.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    Optional<JsonSnapshot<List<Appointment>>> readSnapshot(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
         Optional<JsonSerializableAppointment> jsonAppointment = JsonUtil.readJsonFile(
@@ -55,7 +64,8 @@ public class JsonAppointmentStorage implements AppointmentStorage {
         }
 
         try {
-            return Optional.of(jsonAppointment.get().toModelType());
+            return Optional.of(new JsonSnapshot<>(jsonAppointment.get().toModelType(),
+                    jsonAppointment.get().getSnapshotId()));
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -80,7 +90,19 @@ public class JsonAppointmentStorage implements AppointmentStorage {
         List<JsonAdaptedAppointment> jsonAdaptedAppointments =
                 appointments.stream().map(JsonAdaptedAppointment::new).toList();
 
-        FileUtil.createIfMissing(filePath);
         JsonUtil.saveJsonFile(new JsonSerializableAppointment(jsonAdaptedAppointments), filePath);
     }
+
+    /**
+     * Similar to {@link #saveAppointments(List, Path)}, but also writes {@code snapshotId} into the file.
+     */
+    void saveSnapshot(List<Appointment> appointments, Path filePath, long snapshotId) throws IOException {
+        requireNonNull(appointments);
+        requireNonNull(filePath);
+
+        List<JsonAdaptedAppointment> jsonAdaptedAppointments =
+                appointments.stream().map(JsonAdaptedAppointment::new).toList();
+
+        JsonUtil.saveJsonFile(new JsonSerializableAppointment(jsonAdaptedAppointments, snapshotId), filePath);
+    }
 }
@@ -0,0 +1,178 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+
+/**
+ * An append-only file of {@code JsonAdaptedJournalEntry}, stored one JSON object per line
+ * next to the snapshot file that the entries apply to.
+ *
+ * The first line is a header naming the id of the snapshot that the entries apply to. A journal is only replayed
+ * on top of that snapshot, so a journal left behind by a compaction that wrote a new snapshot but did not get to
+ * delete the journal is discarded instead of undoing the changes already in the new snapshot.
+ * Journals written before headers were added apply to snapshots without an id, which have the id 0.
+ */
+class JsonJournal {
+
+    public static final String JOURNAL_FILE_EXTENSION = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonJournal.class);
+
+    private final Path journalPath;
+
+    /**
+     * Creates a {@code JsonJournal} for the snapshot stored at {@code snapshotPath}.
+     */
+    public JsonJournal(Path snapshotPath) {
+        requireNonNull(snapshotPath);
+        journalPath = snapshotPath.resolveSibling(snapshotPath.getFileName() + JOURNAL_FILE_EXTENSION);
+    }
+
+    public Path getJournalPath() {
+        return journalPath;
+    }
+
+    /**
+     * Returns the entries in the journal, oldest first, or an empty list if there is no journal.
+     * A journal that applies to a snapshot other than the one with {@code snapshotId} is stale, so it is
+     * deleted and no entries are returned.
+     * A last line that cannot be parsed is the remains of an append that was interrupted, so it is
+     * dropped from the file instead of failing the read.
+     *
+     * @throws IOException if the journal could not be read or an earlier line cannot be parsed.
+     */
+    public List<JsonAdaptedJournalEntry> read(long snapshotId) throws IOException {
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        if (!Files.exists(journalPath)) {
+            return entries;
+        }
+
+        Long journalSnapshotId = null;
+        boolean hasTornLine = false;
+        try (BufferedReader reader = Files.newBufferedReader(journalPath, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (hasTornLine) {
+                    throw new IOException("Unreadable entry in the middle of journal " + journalPath);
+                }
+
+                try {
+                    if (journalSnapshotId == null) {
+                        journalSnapshotId = JsonUtil.fromJsonString(line, Header.class).getSnapshotId();
+                        if (journalSnapshotId != null) {
+                            continue;
+                        }
+                        journalSnapshotId = 0L; // a journal without a header
+                    }
+                    entries.add(JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class));
+                } catch (JsonProcessingException e) {
+                    hasTornLine = true;
+                }
+            }
+        }
+
+        if (journalSnapshotId == null) {
+            logger.warning("Deleting journal " + journalPath + " as its first append was interrupted");
+            clear();
+            return entries;
+        }
+        if (journalSnapshotId != snapshotId) {
+            logger.warning("Deleting journal " + journalPath + " as it applies to an older snapshot");
+            clear();
+            return new ArrayList<>();
+        }
+        if (hasTornLine) {
+            logger.warning("Dropping incomplete last entry of journal " + journalPath);
+            rewrite(snapshotId, entries);
+        }
+        return entries;
+    }
+
+    /**
+     * Appends {@code entries} to the journal and forces them to disk.
+     * If the journal is missing, it is created with a header saying that it applies to the snapshot
+     * with {@code snapshotId}. An existing journal must already apply to that snapshot.
+     */
+    public void append(List<JsonAdaptedJournalEntry> entries, long snapshotId) throws IOException {
+        requireNonNull(entries);
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        String lines = toLines(entries);
+        if (!Files.exists(journalPath)) {
+            lines = toHeaderLine(snapshotId) + lines;
+        }
+
+        FileUtil.createParentDirsOfFile(journalPath);
+        try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Deletes the journal, if it exists.
+     */
+    public void clear() throws IOException {
+        Files.deleteIfExists(journalPath);
+    }
+
+    private void rewrite(long snapshotId, List<JsonAdaptedJournalEntry> entries) throws IOException {
+        FileUtil.writeToFile(journalPath, toHeaderLine(snapshotId) + toLines(entries));
+    }
+
+    private static String toHeaderLine(long snapshotId) throws JsonProcessingException {
+        return JsonUtil.toJsonLine(new Header(snapshotId)) + '\n';
+    }
+
+    private static String toLines(List<JsonAdaptedJournalEntry> entries) throws JsonProcessingException {
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalEntry entry : entries) {
+            lines.append(JsonUtil.toJsonLine(entry)).append('\n');
+        }
+        return lines.toString();
+    }
+
+    /**
+     * Jackson-friendly first line of a journal.
+     */
+    static class Header {
+        private final Long snapshotId;
+
+        @JsonCreator
+        Header(@JsonProperty("snapshotId") Long snapshotId) {
+            this.snapshotId = snapshotId;
+        }
+
+        Long getSnapshotId() {
+            return snapshotId;
+        }
+    }
+}
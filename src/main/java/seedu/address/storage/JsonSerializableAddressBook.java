@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
@@ -24,6 +25,9 @@ class JsonSerializableAddressBook {
 
     private final List<JsonAdaptedPerson> archivedPersons = new ArrayList<>();
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long snapshotId;
+
     /**
      * Constructs a {@code JsonSerializableAddressBook} with the given persons.
      */
@@ -32,12 +36,15 @@ class JsonSerializableAddressBook {
             @JsonProperty("persons")
             List<JsonAdaptedPerson> persons,
             @JsonProperty("archivedPersons")
-            List<JsonAdaptedPerson> archivedPersons) {
+            List<JsonAdaptedPerson> archivedPersons,
+            @JsonProperty("snapshotId")
+            Long snapshotId) {
         this.persons.addAll(persons);
 
         if (archivedPersons != null) {
             this.archivedPersons.addAll(archivedPersons);
         }
+        this.snapshotId = snapshotId;
     }
 
     /**
@@ -46,6 +53,16 @@ class JsonSerializableAddressBook {
      * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
+        this(source, null);
+    }
+
+    /**
+     * Converts a given {@code ReadOnlyAddressBook} into this class for Jackson use, to be saved as the
+     * snapshot with {@code snapshotId}.
+     *
+     * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
+     */
+    public JsonSerializableAddressBook(ReadOnlyAddressBook source, Long snapshotId) {
         persons.addAll(source.getPersonList().stream()
                 .filter(person -> !person.isArchived())
                 .map(JsonAdaptedPerson::new)
@@ -55,6 +72,8 @@ class JsonSerializableAddressBook {
                 .filter(Person::isArchived)
                 .map(JsonAdaptedPerson::new)
                 .toList());
+
+        this.snapshotId = snapshotId;
     }
 
     /**
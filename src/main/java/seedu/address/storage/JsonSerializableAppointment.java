@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -19,12 +20,32 @@ public class JsonSerializableAppointment {
 
     private final List<JsonAdaptedAppointment> appointments;
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long snapshotId;
+
     /**
      * Constructs a {@code JsonSerializableAppointment} with the given appointments.
      */
+    public JsonSerializableAppointment(List<JsonAdaptedAppointment> appointments) {
+        this(appointments, null);
+    }
+
+    /**
+     * Constructs a {@code JsonSerializableAppointment} with the given appointments, saved as the snapshot
+     * with {@code snapshotId}.
+     */
     @JsonCreator
-    public JsonSerializableAppointment(@JsonProperty("appointments") List<JsonAdaptedAppointment> appointments) {
+    public JsonSerializableAppointment(@JsonProperty("appointments") List<JsonAdaptedAppointment> appointments,
+            @JsonProperty("snapshotId") Long snapshotId) {
         this.appointments = new ArrayList<>(appointments);
+        this.snapshotId = snapshotId;
+    }
+
+    /**
+     * Returns the id this appointment list was saved with, or 0 if it was saved without one.
+     */
+    public long getSnapshotId() {
+        return snapshotId == null ? 0 : snapshotId;
     }
 
     /**
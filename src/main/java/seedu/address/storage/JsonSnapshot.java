@@ -0,0 +1,30 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The data read from a JSON snapshot file, along with the id written into the file when it was saved.
+ * Snapshot files without an id have the id 0.
+ */
+class JsonSnapshot<T> {
+
+    private final T data;
+    private final long snapshotId;
+
+    /**
+     * Creates a {@code JsonSnapshot} of {@code data} read from a file with {@code snapshotId}.
+     */
+    JsonSnapshot(T data, long snapshotId) {
+        requireNonNull(data);
+        this.data = data;
+        this.snapshotId = snapshotId;
+    }
+
+    T getData() {
+        return data;
+    }
+
+    long getSnapshotId() {
+        return snapshotId;
+    }
+}
@@ -41,7 +41,8 @@ public class JsonUserPrefsStorage implements UserPrefsStorage {
 
     @Override
     public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
-        JsonUtil.saveJsonFile(userPrefs, filePath);
+        // the prefs are saved on every start and exit, but seldom change
+        JsonUtil.saveJsonFileIfChanged(userPrefs, filePath);
     }
 
 }
@@ -0,0 +1,129 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.appointment.Appointment;
+
+/**
+ * Saves snapshots of the address book and appointments to {@code Storage} on a single background thread.
+ * Snapshots scheduled within {@code delayMillis} of each other are coalesced, so that a burst of changes
+ * results in only one write of the latest snapshot.
+ */
+public class SaveScheduler {
+
+    public static final long DEFAULT_DELAY_MILLIS = 300;
+
+    private static final Logger logger = LogsCenter.getLogger(SaveScheduler.class);
+
+    private final Storage storage;
+    private final long delayMillis;
+    private final ScheduledExecutorService executor;
+    private final AtomicReference<Snapshot> pendingSnapshot = new AtomicReference<>();
+
+    private ScheduledFuture<?> scheduledSave;
+    private volatile Consumer<IOException> saveFailureHandler = e ->
+            logger.warning("Failed to save data: " + StringUtil.getDetails(e));
+
+    /**
+     * Creates a {@code SaveScheduler} that writes to {@code storage} once no new snapshot has been scheduled
+     * for {@code delayMillis} milliseconds.
+     */
+    public SaveScheduler(Storage storage, long delayMillis) {
+        requireNonNull(storage);
+        this.storage = storage;
+        this.delayMillis = delayMillis;
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread saveThread = new Thread(runnable, "Storage: Save Thread");
+            saveThread.setDaemon(true);
+            return saveThread;
+        });
+    }
+
+    /**
+     * Sets the handler that is called, on the save thread, with the exception of any save that fails.
+     */
+    public void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    /**
+     * Schedules a snapshot of {@code addressBook}, and {@code appointments}, to be saved.
+     * {@code appointments} is saved as it is, so it must not change after it is scheduled, as is the case for
+     * {@link seedu.address.model.Model#getAppointmentListSnapshot()}.
+     * Any snapshot scheduled earlier that has not been written yet is replaced by this one.
+     */
+    public synchronized void schedule(ReadOnlyAddressBook addressBook, List<Appointment> appointments) {
+        requireAllNonNull(addressBook, appointments);
+        if (executor.isShutdown()) {
+            return;
+        }
+
+        pendingSnapshot.set(new Snapshot(addressBook.snapshot(), appointments));
+
+        if (scheduledSave != null) {
+            scheduledSave.cancel(false); // a save that has already started is left to finish
+        }
+        scheduledSave = executor.schedule(this::savePendingSnapshot, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Writes the pending snapshot, if any, and blocks until it and any save in progress have completed.
+     */
+    public void flush() {
+        if (executor.isShutdown()) {
+            return;
+        }
+
+        try {
+            executor.submit(this::savePendingSnapshot).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.warning("Unexpected error while saving data: " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Flushes the pending snapshot and stops the save thread.
+     * Snapshots scheduled afterwards are not saved.
+     */
+    public void shutdown() {
+        flush();
+        executor.shutdown();
+    }
+
+    private void savePendingSnapshot() {
+        Snapshot snapshot = pendingSnapshot.getAndSet(null);
+        if (snapshot == null) {
+            return;
+        }
+
+        try {
+            storage.saveAddressBook(snapshot.addressBook());
+            storage.saveAppointments(snapshot.appointments());
+        } catch (IOException e) {
+            saveFailureHandler.accept(e);
+        }
+    }
+
+    /**
+     * An immutable copy of the data to be saved.
+     */
+    private record Snapshot(ReadOnlyAddressBook addressBook, List<Appointment> appointments) {}
+}
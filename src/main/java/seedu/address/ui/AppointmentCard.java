@@ -12,8 +12,6 @@ import seedu.address.model.appointment.Appointment;
 public class AppointmentCard extends UiPart<Region> {
     private static final String FXML = "AppointmentListCard.fxml";
 
-    public final Appointment appointment;
-
     @FXML
     private HBox cardPane;
     @FXML
@@ -25,12 +23,27 @@ public class AppointmentCard extends UiPart<Region> {
     @FXML
     private Label time;
 
+    private Appointment appointment;
+    private int displayedIndex;
+
     /**
-     * Creates an {@code AppointmentCard} with the given {@code Appointment} and index to display.
+     * Creates an {@code AppointmentCard} that displays no appointment until {@link #setAppointment} is called.
      */
-    public AppointmentCard(Appointment appointment, int displayedIndex) {
+    public AppointmentCard() {
         super(FXML);
+    }
+
+    /**
+     * Displays {@code appointment} with {@code displayedIndex} in this card in place of the appointment it displayed
+     * before.
+     */
+    public void setAppointment(Appointment appointment, int displayedIndex) {
+        if (appointment == this.appointment && displayedIndex == this.displayedIndex) {
+            return;
+        }
         this.appointment = appointment;
+        this.displayedIndex = displayedIndex;
+
         id.setText(displayedIndex + ". ");
         name.setText(appointment.name().fullName);
         date.setText(appointment.getFormattedDate());
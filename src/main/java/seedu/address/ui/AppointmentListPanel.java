@@ -27,8 +27,11 @@ public class AppointmentListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of an {@code Appointment} using an {@code AppointmentCard}.
+     * Each cell creates its card once and shows every appointment it is reused for in that card.
      */
     static class AppointmentListViewCell extends ListCell<Appointment> {
+        private AppointmentCard appointmentCard;
+
         @Override
         protected void updateItem(Appointment appointment, boolean empty) {
             super.updateItem(appointment, empty);
@@ -37,7 +40,11 @@ public class AppointmentListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new AppointmentCard(appointment, getIndex() + 1).getRoot());
+                if (appointmentCard == null) {
+                    appointmentCard = new AppointmentCard();
+                }
+                appointmentCard.setAppointment(appointment, getIndex() + 1);
+                setGraphic(appointmentCard.getRoot());
             }
         }
     }
@@ -2,6 +2,12 @@ package seedu.address.ui;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.logging.Logger;
 
 import com.calendarfx.model.Calendar;
@@ -19,10 +25,15 @@ import seedu.address.model.appointment.Appointment;
 
 /**
  * Panel containing the list of appointments.
+ * Only the appointments within a window of dates around the date shown are put in the calendar, so the calendar stays
+ * small however many appointments there are. The window follows the date shown as the user moves through the calendar.
  */
 public class CalendarViewPanel extends UiPart<Region> {
     private static final String FXML = "CalendarViewPanel.fxml";
 
+    // covers the month shown around a date and the agenda of the weeks after it
+    static final int PREFETCH_DAYS = 62;
+
     private final Logger logger = LogsCenter.getLogger(CalendarViewPanel.class);
 
     @FXML
@@ -30,19 +41,28 @@ public class CalendarViewPanel extends UiPart<Region> {
 
     private final Calendar calendar;
 
+    private final ObservableList<Appointment> appointmentList;
+    private LocalDate windowStart;
+    private LocalDate windowEnd;
+
+    // the entry shown for each appointment, so that changes to the list are applied without searching the calendar
+    private final Map<Appointment, Entry<String>> entries = new IdentityHashMap<>();
+
     /**
-     * Creates a {code CalendarViewPanel} with the given {@code ObservableList}.
+     * Creates a {code CalendarViewPanel} with the given {@code ObservableList}, which must be ordered by date.
      */
     public CalendarViewPanel(ObservableList<Appointment> appointmentList) {
         super(FXML);
         calendarView = new CalendarView();
         calendar = new Calendar("Appointments");
-        setUpCalendarView(appointmentList);
-        bindAppointmentListToCalendar(appointmentList);
+        this.appointmentList = appointmentList;
+        setUpCalendarView();
+        bindAppointmentListToCalendar();
+        bindWindowToDateShown();
         startUpdateTimeThread();
     }
 
-    private void setUpCalendarView(ObservableList<Appointment> appointmentList) {
+    private void setUpCalendarView() {
         calendarView.setShowToolBar(false);
         calendarView.setEntryFactory(param -> null);
         calendarView.setEntryDetailsCallback(param -> null);
@@ -52,43 +72,121 @@ public class CalendarViewPanel extends UiPart<Region> {
         calendar.setStyle(Calendar.Style.STYLE2);
         calendar.setReadOnly(true);
 
-        for (Appointment appointment : appointmentList) {
-            addAppointmentToCalendar(appointment);
-        }
-
         CalendarSource source = new CalendarSource("My Calendars");
         source.getCalendars().add(calendar);
         calendarView.getCalendarSources().add(source);
     }
 
-    private void bindAppointmentListToCalendar(ObservableList<Appointment> appointmentList) {
+    private void bindAppointmentListToCalendar() {
         appointmentList.addListener((ListChangeListener<? super Appointment>) change -> {
-            while (change.next()) {
-                if (change.wasReplaced()) {
-                    change.getRemoved().forEach(this::removeAppointmentFromCalendar);
-                    change.getAddedSubList().forEach(this::addAppointmentToCalendar);
-                } else if (change.wasAdded()) {
-                    calendar.clear();
-                    appointmentList.forEach(this::addAppointmentToCalendar);
-                } else if (change.wasRemoved()) {
+            // the calendar redraws after every entry changed, unless many changes are made as one batch
+            boolean isBatch = countChangedAppointments(change) > 1;
+            if (isBatch) {
+                calendar.startBatchUpdates();
+            }
+            try {
+                while (change.next()) {
+                    if (change.wasPermutated()) {
+                        continue; // reordering the list does not change what is in the calendar
+                    }
                     change.getRemoved().forEach(this::removeAppointmentFromCalendar);
+                    change.getAddedSubList().stream()
+                            .filter(this::isInWindow)
+                            .forEach(this::addAppointmentToCalendar);
+                }
+            } finally {
+                if (isBatch) {
+                    calendar.stopBatchUpdates();
                 }
             }
         });
     }
 
+    /**
+     * Fills the calendar for the date shown, and moves the window whenever another date is shown, such as when the
+     * user goes back, forward or to today.
+     */
+    private void bindWindowToDateShown() {
+        calendarView.dateProperty().addListener((observable, oldDate, newDate) -> moveWindowTo(newDate));
+        moveWindowTo(calendarView.getDate());
+    }
+
+    /**
+     * Moves the window to be centred on {@code date}, removing the entries of appointments that are no longer in
+     * the window and adding those of appointments that have come into it.
+     */
+    private void moveWindowTo(LocalDate date) {
+        windowStart = date.minusDays(PREFETCH_DAYS);
+        windowEnd = date.plusDays(PREFETCH_DAYS);
+        List<Appointment> appointmentsInWindow = appointmentList.subList(
+                findFirstIndexOnOrAfter(windowStart), findFirstIndexOnOrAfter(windowEnd.plusDays(1)));
+        Set<Appointment> windowAppointments = Collections.newSetFromMap(new IdentityHashMap<>());
+        windowAppointments.addAll(appointmentsInWindow);
+
+        calendar.startBatchUpdates();
+        try {
+            Iterator<Map.Entry<Appointment, Entry<String>>> shownEntries = entries.entrySet().iterator();
+            while (shownEntries.hasNext()) {
+                Map.Entry<Appointment, Entry<String>> shownEntry = shownEntries.next();
+                if (!windowAppointments.contains(shownEntry.getKey())) {
+                    calendar.removeEntry(shownEntry.getValue());
+                    shownEntries.remove();
+                }
+            }
+            for (Appointment appointment : appointmentsInWindow) {
+                if (!entries.containsKey(appointment)) {
+                    addAppointmentToCalendar(appointment);
+                }
+            }
+        } finally {
+            calendar.stopBatchUpdates();
+        }
+    }
+
+    private boolean isInWindow(Appointment appointment) {
+        return !appointment.date().isBefore(windowStart) && !appointment.date().isAfter(windowEnd);
+    }
+
+    /**
+     * Returns the index of the first appointment dated on or after {@code date}, found by binary search as the
+     * appointments are ordered by date.
+     */
+    private int findFirstIndexOnOrAfter(LocalDate date) {
+        int low = 0;
+        int high = appointmentList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (appointmentList.get(mid).date().isBefore(date)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int countChangedAppointments(ListChangeListener.Change<? extends Appointment> change) {
+        int count = 0;
+        while (change.next()) {
+            count += change.getRemovedSize() + change.getAddedSize();
+        }
+        change.reset();
+        return count;
+    }
+
     private void addAppointmentToCalendar(Appointment appointment) {
         Entry<String> entry = new Entry<>(appointment.name().fullName);
         entry.setInterval(appointment.date(), appointment.startTime(),
                 appointment.date(), appointment.endTime());
+        entries.put(appointment, entry);
         calendar.addEntry(entry);
     }
 
     private void removeAppointmentFromCalendar(Appointment appointment) {
-        calendar.findEntries(appointment.name().fullName).stream()
-                .filter(entry -> entry.getStartDate().equals(appointment.date())
-                        && entry.getStartTime().equals(appointment.startTime()))
-                .forEach(calendar::removeEntry);
+        Entry<String> entry = entries.remove(appointment);
+        if (entry != null) {
+            calendar.removeEntry(entry);
+        }
     }
 
     private void startUpdateTimeThread() {
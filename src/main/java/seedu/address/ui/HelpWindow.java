@@ -26,6 +26,7 @@ import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListAppointmentCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.SchemeCommand;
+import seedu.address.logic.commands.SimulateCommand;
 import seedu.address.logic.commands.SortCommand;
 import seedu.address.logic.commands.StatisticsCommand;
 import seedu.address.logic.commands.UndoCommand;
@@ -70,6 +71,8 @@ public class HelpWindow extends UiPart<Stage> {
 
     private static final String SCHEME_DELETE_COMMAND = DeleteSchemeCommand.COMMAND_WORD + "\n";
 
+    private static final String SIMULATE_COMMAND = SimulateCommand.COMMAND_WORD + "\n";
+
     private static final String UNDO_COMMAND = UndoCommand.COMMAND_WORD + "\n";
 
     private static final String HELP_COMMAND = HelpCommand.COMMAND_WORD + "\n";
@@ -88,7 +91,7 @@ public class HelpWindow extends UiPart<Stage> {
 
     private static final String[] COMMANDS = {ADD_COMMAND, CLEAR_COMMAND, DELETE_COMMAND, EDIT_COMMAND,
         FIND_COMMAND, GET_COMMAND, LIST_COMMAND, STATISTICS_COMMAND, SCHEME_COMMAND, SCHEME_VIEW_COMMAND,
-        SCHEME_ADD_COMMAND, SCHEME_DELETE_COMMAND, LIST_APPOINTMENT_COMMAND, ADD_APPOINTMENT_COMMAND,
+        SCHEME_ADD_COMMAND, SCHEME_DELETE_COMMAND, SIMULATE_COMMAND, LIST_APPOINTMENT_COMMAND, ADD_APPOINTMENT_COMMAND,
         DELETE_APPOINTMENT_COMMAND, EDIT_APPOINTMENT_COMMAND, ARCHIVE_COMMAND, UNARCHIVE_COMMAND,
         UNDO_COMMAND, SORT_COMMAND, EXIT_COMMAND, HELP_COMMAND};
 
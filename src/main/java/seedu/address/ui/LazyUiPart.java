@@ -0,0 +1,43 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Holds a UI part that is only created the first time it is needed, so that parts the user may never open do not
+ * slow down the start of the app.
+ */
+class LazyUiPart<T> {
+
+    private final Supplier<T> factory;
+    private T uiPart;
+
+    /**
+     * Creates a holder of the UI part created by {@code factory} on first use.
+     */
+    LazyUiPart(Supplier<T> factory) {
+        requireNonNull(factory);
+        this.factory = factory;
+    }
+
+    /**
+     * Returns the UI part, creating it if it has not been created yet.
+     */
+    T get() {
+        if (uiPart == null) {
+            uiPart = factory.get();
+        }
+        return uiPart;
+    }
+
+    /**
+     * Performs {@code action} on the UI part if it has been created, without creating it otherwise.
+     */
+    void ifCreated(Consumer<? super T> action) {
+        if (uiPart != null) {
+            action.accept(uiPart);
+        }
+    }
+}
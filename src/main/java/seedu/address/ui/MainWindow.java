@@ -6,6 +6,7 @@ import java.util.logging.Logger;
 
 import com.calendarfx.view.CalendarView;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -36,14 +37,19 @@ public class MainWindow extends UiPart<Stage> {
     private static final KeyCombination KEY_COMB_NEXT_DAY = new KeyCodeCombination(KeyCode.N, CONTROL_DOWN);
     private static final KeyCombination KEY_COMB_TODAY = new KeyCodeCombination(KeyCode.T, CONTROL_DOWN);
 
+    private static final String MESSAGE_LOADING = "Loading SocialBook data...";
+
     private final Logger logger = LogsCenter.getLogger(MainWindow.class);
     private final Stage primaryStage;
     private final Logic logic;
-    private final HelpWindow helpWindow;
+
+    // parts that are only built when first shown, as they are not needed to start using the app
+    private final LazyUiPart<HelpWindow> helpWindow = new LazyUiPart<>(HelpWindow::new);
+    private final LazyUiPart<Region> appointmentListPanelRoot = new LazyUiPart<>(this::createAppointmentListPanel);
 
     private Region personListPanelRoot;
-    private Region appointmentListPanelRoot;
     private ResultDisplay resultDisplay;
+    private CommandBox commandBox;
     private CalendarView calendarView;
 
     @FXML
@@ -79,8 +85,6 @@ public class MainWindow extends UiPart<Stage> {
 
         setAccelerators();
 
-        helpWindow = new HelpWindow();
-
         registerKeyboardShortcuts();
     }
 
@@ -124,6 +128,10 @@ public class MainWindow extends UiPart<Stage> {
 
     private void registerKeyboardShortcuts() {
         primaryStage.addEventHandler(KeyEvent.KEY_PRESSED, event -> {
+            if (calendarView == null) {
+                return; // the calendar has not been built yet
+            }
+
             if (KEY_COMB_PREV_DAY.match(event)) {
                 calendarView.goBack();
                 event.consume();
@@ -139,31 +147,47 @@ public class MainWindow extends UiPart<Stage> {
 
     /**
      * Fills up all the placeholders of this window.
+     * The calendar is only built after the rest of the window has been shown, so the person list and command box
+     * can be used as soon as possible.
      */
     void fillInnerParts() {
         PersonListPanel personListPanel = new PersonListPanel(logic.getFilteredPersonList());
-        AppointmentListPanel appointmentListPanel = new AppointmentListPanel(logic.getFilteredAppointmentList());
-
         personListPanelRoot = personListPanel.getRoot();
-        appointmentListPanelRoot = appointmentListPanel.getRoot();
-        appointmentListPanelRoot.setVisible(false);
-
-        listPanelPlaceholder.getChildren().addAll(personListPanelRoot, appointmentListPanelRoot);
+        listPanelPlaceholder.getChildren().add(personListPanelRoot);
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveFailureHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
 
+        Platform.runLater(this::fillCalendar);
+    }
+
+    /**
+     * Stops the user from entering commands while the data is being loaded, or lets them again once it is done.
+     */
+    void setLoading(boolean isLoading) {
+        commandBox.getRoot().setDisable(isLoading);
+        resultDisplay.setFeedbackToUser(isLoading ? MESSAGE_LOADING : "");
+    }
+
+    private void fillCalendar() {
         CalendarViewPanel calendarViewPanel = new CalendarViewPanel(logic.getFilteredAppointmentList());
         calendarView = calendarViewPanel.getCalendarView();
         calendarViewPanelPlaceholder.getChildren().add(calendarView);
     }
 
+    private Region createAppointmentListPanel() {
+        Region root = new AppointmentListPanel(logic.getFilteredAppointmentList()).getRoot();
+        listPanelPlaceholder.getChildren().add(root);
+        return root;
+    }
+
     /**
      * Sets the default size based on {@code guiSettings}.
      */
@@ -178,12 +202,12 @@ public class MainWindow extends UiPart<Stage> {
 
     private void showAppointmentList() {
         personListPanelRoot.setVisible(false);
-        appointmentListPanelRoot.setVisible(true);
+        appointmentListPanelRoot.get().setVisible(true);
     }
 
     private void showPersonList() {
         personListPanelRoot.setVisible(true);
-        appointmentListPanelRoot.setVisible(false);
+        appointmentListPanelRoot.ifCreated(root -> root.setVisible(false));
     }
 
     /**
@@ -191,10 +215,10 @@ public class MainWindow extends UiPart<Stage> {
      */
     @FXML
     public void handleHelp() {
-        if (!helpWindow.isShowing()) {
-            helpWindow.show();
+        if (!helpWindow.get().isShowing()) {
+            helpWindow.get().show();
         } else {
-            helpWindow.focus();
+            helpWindow.get().focus();
         }
     }
 
@@ -210,7 +234,7 @@ public class MainWindow extends UiPart<Stage> {
         GuiSettings guiSettings = new GuiSettings(primaryStage.getWidth(), primaryStage.getHeight(),
                 (int) primaryStage.getX(), (int) primaryStage.getY());
         logic.setGuiSettings(guiSettings);
-        helpWindow.hide();
+        helpWindow.ifCreated(HelpWindow::hide);
         primaryStage.hide();
     }
 
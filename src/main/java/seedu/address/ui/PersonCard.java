@@ -2,7 +2,8 @@ package seedu.address.ui;
 
 import java.time.LocalDate;
 import java.time.Period;
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.List;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
@@ -17,6 +18,8 @@ import seedu.address.model.person.Person;
 public class PersonCard extends UiPart<Region> {
 
     private static final String FXML = "PersonListCard.fxml";
+    private static final List<String> PRIORITY_STYLE_CLASSES =
+            List.of("priority-high", "priority-medium", "priority-low");
 
     /**
      * Note: Certain keywords such as "location" and "resources" are reserved keywords in JavaFX.
@@ -26,8 +29,6 @@ public class PersonCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Person person;
-
     @FXML
     private HBox cardPane;
     @FXML
@@ -55,18 +56,36 @@ public class PersonCard extends UiPart<Region> {
     @FXML
     private Label isArchived;
 
+    // labels for tags, kept across persons so that showing another person does not create new ones
+    private final List<Label> tagLabels = new ArrayList<>();
+
+    private Person person;
+    private int displayedIndex;
+
     /**
-     * Creates a {@code PersonCard} with the given {@code Person} and index to display.
+     * Creates a {@code PersonCard} that displays no person until {@link #setPerson} is called.
      */
-    public PersonCard(Person person, int displayedIndex) {
+    public PersonCard() {
         super(FXML);
+    }
+
+    /**
+     * Displays {@code person} with {@code displayedIndex} in this card in place of the person it displayed before.
+     */
+    public void setPerson(Person person, int displayedIndex) {
+        if (person == this.person && displayedIndex == this.displayedIndex) {
+            return;
+        }
         this.person = person;
+        this.displayedIndex = displayedIndex;
+
         id.setText(displayedIndex + ". ");
         name.setText(person.getName().fullName);
         phone.setText(person.getPhone().value);
         address.setText(person.getAddress().value);
         email.setText(person.getEmail().value);
 
+        priority.getStyleClass().removeAll(PRIORITY_STYLE_CLASSES);
         priority.getStyleClass().add(switch (person.getPriority()) {
         case HIGH -> "priority-high";
         case MEDIUM -> "priority-medium";
@@ -79,14 +98,27 @@ public class PersonCard extends UiPart<Region> {
         familySize.setText(String.format("Family size: %s", person.getFamilySize()));
         updatedAt.setText(String.format("Last updated: %s", person.getUpdatedAt()));
 
-        person.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
+        setTags(person.getTags().stream().map(tag -> tag.tagName).sorted().toList());
 
         isArchived.setVisible(person.isArchived());
         isArchived.setManaged(person.isArchived());
     }
 
+    /**
+     * Shows {@code tagNames} in the tag labels, creating labels only when there are more tags than ever before.
+     */
+    private void setTags(List<String> tagNames) {
+        while (tagLabels.size() < tagNames.size()) {
+            tagLabels.add(new Label());
+        }
+        for (int i = 0; i < tagNames.size(); i++) {
+            tagLabels.get(i).setText(tagNames.get(i));
+        }
+        if (tags.getChildren().size() != tagNames.size()) {
+            tags.getChildren().setAll(tagLabels.subList(0, tagNames.size()));
+        }
+    }
+
     private static int getPersonAge(Person person) {
         LocalDate date = person.getDateOfBirth().getValue();
         LocalDate now = LocalDate.now();
@@ -10,4 +10,10 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /** Stops or lets the user enter commands while the data is being loaded. */
+    void setLoading(boolean isLoading);
+
+    /** Tells the user the data could not be loaded, and exits the App. */
+    void showLoadingFailed(Throwable e);
+
 }
@@ -50,6 +50,16 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void setLoading(boolean isLoading) {
+        mainWindow.setLoading(isLoading);
+    }
+
+    @Override
+    public void showLoadingFailed(Throwable e) {
+        showFatalErrorDialogAndShutdown("Fatal error while loading data", e);
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
@@ -1,10 +1,12 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -82,6 +84,40 @@ public class CollectionUtilTest {
         assertTrue(CollectionUtil.isAnyNonNull(new Object(), null));
     }
 
+    @Test
+    public void replaceChangedRange() {
+        // identical lists
+        assertReplaceChangedRange(List.of("a", "b", "c"), List.of("a", "b", "c"));
+
+        // changed element in the middle
+        assertReplaceChangedRange(List.of("a", "b", "c"), List.of("a", "x", "c"));
+
+        // elements inserted and removed at either end
+        assertReplaceChangedRange(List.of("a", "b", "c"), List.of("x", "a", "b", "c", "y"));
+        assertReplaceChangedRange(List.of("a", "b", "c"), List.of("b"));
+
+        // from and to empty lists
+        assertReplaceChangedRange(List.of(), List.of("a", "b"));
+        assertReplaceChangedRange(List.of("a", "b"), List.of());
+
+        // repeated elements
+        assertReplaceChangedRange(List.of("a", "a", "a"), List.of("a", "a"));
+
+        // null arguments
+        assertThrows(NullPointerException.class, () -> CollectionUtil.replaceChangedRange(null, List.of()));
+        assertThrows(NullPointerException.class, () -> CollectionUtil.replaceChangedRange(new ArrayList<>(), null));
+    }
+
+    /**
+     * Asserts that {@code CollectionUtil#replaceChangedRange(List, List)} turns a list containing
+     * {@code original} into one equal to {@code replacement}.
+     */
+    private void assertReplaceChangedRange(List<String> original, List<String> replacement) {
+        List<String> target = new ArrayList<>(original);
+        CollectionUtil.replaceChangedRange(target, replacement);
+        assertEquals(replacement, target);
+    }
+
     /**
      * Asserts that {@code CollectionUtil#requireAllNonNull(Object...)} throw {@code NullPointerException}
      * if {@code objects} or any element of {@code objects} is null.
@@ -0,0 +1,101 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersistentListTest {
+
+    private final PersistentList<Person> typicalPersons = PersistentList.of(getTypicalPersons());
+
+    @Test
+    public void of_persons_keepsOrder() {
+        assertEquals(getTypicalPersons(), typicalPersons);
+        assertEquals(List.of(), PersistentList.of(List.of()));
+    }
+
+    @Test
+    public void changes_earlierVersionsUnchanged() {
+        PersistentList<Person> withCarlFirst = typicalPersons.with(0, CARL);
+        PersistentList<Person> withoutFirstTwo = withCarlFirst.minus(0, 2);
+        PersistentList<Person> withAliceBack = withoutFirstTwo.plus(0, List.of(ALICE, BENSON));
+
+        assertEquals(getTypicalPersons(), typicalPersons);
+        assertEquals(CARL, withCarlFirst.get(0));
+        assertEquals(getTypicalPersons().subList(2, getTypicalPersons().size()), withoutFirstTwo);
+        assertEquals(getTypicalPersons(), withAliceBack);
+    }
+
+    @Test
+    public void plusMinus_emptyChanges_returnsSameList() {
+        assertSame(typicalPersons, typicalPersons.plus(3, List.of()));
+        assertSame(typicalPersons, typicalPersons.minus(3, 3));
+    }
+
+    @Test
+    public void changes_invalidIndex_throwsIndexOutOfBoundsException() {
+        int size = typicalPersons.size();
+        assertThrows(IndexOutOfBoundsException.class, () -> typicalPersons.get(size));
+        assertThrows(IndexOutOfBoundsException.class, () -> typicalPersons.with(-1, ALICE));
+        assertThrows(IndexOutOfBoundsException.class, () -> typicalPersons.plus(size + 1, List.of(ALICE)));
+        assertThrows(IndexOutOfBoundsException.class, () -> typicalPersons.minus(1, size + 1));
+    }
+
+    @Test
+    public void withChange_observableListChanges_matchesObservableList() {
+        ObservableList<Person> persons = FXCollections.observableArrayList(getTypicalPersons());
+        List<PersistentList<Person>> copies = new ArrayList<>(List.of(PersistentList.of(persons)));
+        persons.addListener((ListChangeListener<Person>) change ->
+                copies.add(copies.get(copies.size() - 1).withChange(change)));
+
+        persons.set(1, CARL);
+        persons.remove(2, 4);
+        persons.add(0, BENSON);
+        persons.sort(Comparator.comparing((Person person) -> person.getName().fullName));
+        persons.setAll(ALICE, BENSON);
+
+        assertEquals(persons, copies.get(copies.size() - 1));
+        assertEquals(getTypicalPersons(), copies.get(0));
+    }
+
+    @Test
+    public void changes_manyRandomChanges_matchesArrayList() {
+        Random random = new Random(2103);
+        List<Person> expected = new ArrayList<>();
+        PersistentList<Person> actual = PersistentList.empty();
+
+        for (int i = 0; i < 2000; i++) {
+            Person person = new PersonBuilder().withName("Person " + i).build();
+            int index = random.nextInt(expected.size() + 1);
+            if (index < expected.size() && random.nextBoolean()) {
+                expected.remove(index);
+                actual = actual.minus(index, index + 1);
+            } else if (index < expected.size() && random.nextBoolean()) {
+                expected.set(index, person);
+                actual = actual.with(index, person);
+            } else {
+                expected.add(index, person);
+                actual = actual.plus(index, List.of(person));
+            }
+        }
+
+        assertEquals(expected, actual);
+    }
+}
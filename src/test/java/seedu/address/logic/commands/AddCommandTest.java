@@ -8,6 +8,7 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
@@ -24,8 +25,10 @@ import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentConflict;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonStatistics;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddCommandTest {
@@ -160,6 +163,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public PersonStatistics getFilteredPersonListStatistics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Predicate<Person> getFilteredPersonListPredicate() {
             throw new AssertionError("This method should not be called.");
@@ -170,6 +178,21 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Predicate<Person> getNameStartsWithKeywordsPredicate(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Predicate<Person> getAddressContainsKeywordsPredicate(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Predicate<Person> getIncomeWithinLimitsPredicate(List<String> incomes) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateSortingOrder(Comparator<Person> comparator) {
             throw new AssertionError("This method should not be called.");
@@ -185,6 +208,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Appointment> getAppointmentListSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addAppointment(Appointment appointment) {
             throw new AssertionError("This method should not be called.");
@@ -230,6 +258,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Appointment> getFilteredAppointmentsBetween(LocalDate startDate, LocalDate endDate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public List<Appointment> getConflictingAppointments(Appointment appointment) {
             throw new AssertionError("This method should not be called.");
@@ -239,6 +272,11 @@ public class AddCommandTest {
         public List<Appointment> getConflictingAppointments(Appointment oldAppointment, Appointment newAppointment) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public List<AppointmentConflict> getAppointmentConflicts() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
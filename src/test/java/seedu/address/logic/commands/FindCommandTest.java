@@ -17,15 +17,14 @@ import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
-import seedu.address.model.person.predicates.AddressContainsKeywordsPredicate;
-import seedu.address.model.person.predicates.IncomePredicate;
-import seedu.address.model.person.predicates.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.predicates.PriorityPredicate;
 
 /**
@@ -72,7 +71,7 @@ public class FindCommandTest {
         nameKeywords = Arrays.asList("Carl", "Elle", "Fiona");
 
         FindCommand command = new FindCommand(nameKeywords, addressKeywords, priorities, incomes);
-        expectedModel.updateFilteredPersonList(new NameContainsKeywordsPredicate(nameKeywords));
+        expectedModel.updateFilteredPersonList(expectedModel.getNameStartsWithKeywordsPredicate(nameKeywords));
 
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
@@ -84,7 +83,7 @@ public class FindCommandTest {
         addressKeywords = Arrays.asList("Clementi", "Jurong");
 
         FindCommand command = new FindCommand(nameKeywords, addressKeywords, priorities, incomes);
-        expectedModel.updateFilteredPersonList(new AddressContainsKeywordsPredicate(addressKeywords));
+        expectedModel.updateFilteredPersonList(expectedModel.getAddressContainsKeywordsPredicate(addressKeywords));
 
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(Arrays.asList(BENSON, ALICE), model.getFilteredPersonList());
@@ -108,7 +107,7 @@ public class FindCommandTest {
         incomes = Arrays.asList("1000.00", "800");
 
         FindCommand command = new FindCommand(nameKeywords, addressKeywords, priorities, incomes);
-        expectedModel.updateFilteredPersonList(new IncomePredicate(incomes));
+        expectedModel.updateFilteredPersonList(expectedModel.getIncomeWithinLimitsPredicate(incomes));
 
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(Arrays.asList(BENSON, ALICE, CARL), model.getFilteredPersonList());
@@ -123,10 +122,10 @@ public class FindCommandTest {
         incomes = Arrays.asList("500.00", "0");
 
         FindCommand command = new FindCommand(nameKeywords, addressKeywords, priorities, incomes);
-        NameContainsKeywordsPredicate namePredicate = new NameContainsKeywordsPredicate(nameKeywords);
-        AddressContainsKeywordsPredicate addressPredicate = new AddressContainsKeywordsPredicate(addressKeywords);
+        Predicate<Person> namePredicate = expectedModel.getNameStartsWithKeywordsPredicate(nameKeywords);
+        Predicate<Person> addressPredicate = expectedModel.getAddressContainsKeywordsPredicate(addressKeywords);
         PriorityPredicate priorityPredicate = new PriorityPredicate(priorities);
-        IncomePredicate incomePredicate = new IncomePredicate(incomes);
+        Predicate<Person> incomePredicate = expectedModel.getIncomeWithinLimitsPredicate(incomes);
 
         expectedModel.updateFilteredPersonList(
                 namePredicate.and(addressPredicate).and(priorityPredicate).and(incomePredicate));
@@ -141,7 +140,7 @@ public class FindCommandTest {
         nameKeywords = Arrays.asList("Me");
 
         FindCommand command = new FindCommand(nameKeywords, addressKeywords, priorities, incomes);
-        expectedModel.updateFilteredPersonList(new NameContainsKeywordsPredicate(nameKeywords));
+        expectedModel.updateFilteredPersonList(expectedModel.getNameStartsWithKeywordsPredicate(nameKeywords));
 
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(List.of(), model.getFilteredPersonList());
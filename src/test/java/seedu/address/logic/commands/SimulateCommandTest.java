@@ -0,0 +1,97 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.CHERRY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook3;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class SimulateCommandTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook3(), new ArrayList<>(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalAddressBook3(), new ArrayList<>(), new UserPrefs());
+
+    @Test
+    public void execute_raisedIncomeLimit_listsPersonsGaining() {
+        String expectedMessage = String.format(SimulateCommand.MESSAGE_SIMULATION_RESULT, "MOE FAS", 1, 0);
+        expectedModel.updateFilteredPersonList(CHERRY::equals);
+        assertCommandSuccess(new SimulateCommand("moe fas", 5000.0, null), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_loweredIncomeLimit_listsPersonsLosing() {
+        String expectedMessage = String.format(SimulateCommand.MESSAGE_SIMULATION_RESULT, "SCFA", 0, 1);
+        expectedModel.updateFilteredPersonList(CHERRY::equals);
+        assertCommandSuccess(new SimulateCommand("SCFA", 3000.0, 1000.0), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_unchangedLimits_listsNoPersons() {
+        String expectedMessage = String.format(SimulateCommand.MESSAGE_SIMULATION_RESULT, "SCFA", 0, 0);
+        expectedModel.updateFilteredPersonList(unused -> false);
+        assertCommandSuccess(new SimulateCommand("SCFA", 4500.0, null), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_affectedPersonArchived_personNotConsidered() {
+        Person archivedCherry = new PersonBuilder(CHERRY).withArchived(true).build();
+        model.setPerson(CHERRY, archivedCherry);
+        expectedModel.setPerson(CHERRY, archivedCherry);
+
+        String expectedMessage = String.format(SimulateCommand.MESSAGE_SIMULATION_RESULT, "MOE FAS", 0, 0);
+        expectedModel.updateFilteredPersonList(unused -> false);
+        assertCommandSuccess(new SimulateCommand("moe fas", 5000.0, null), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_affectedPersonEditedAfterwards_personStillListed() throws Exception {
+        new SimulateCommand("moe fas", 5000.0, null).execute(model);
+
+        Person editedCherry = new PersonBuilder(CHERRY).withPhone("91234567").build();
+        model.setPerson(CHERRY, editedCherry);
+        assertEquals(List.of(editedCherry), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_unknownScheme_throwsCommandException() {
+        assertCommandFailure(new SimulateCommand("ABC", 5000.0, null), model,
+                String.format(SimulateCommand.MESSAGE_SCHEME_NOT_FOUND, "ABC"));
+    }
+
+    @Test
+    public void equals() {
+        SimulateCommand simulateCommand = new SimulateCommand("SCFA", 5000.0, null);
+
+        // same object -> returns true
+        assertTrue(simulateCommand.equals(simulateCommand));
+
+        // same values, short name in a different case -> returns true
+        assertTrue(simulateCommand.equals(new SimulateCommand("scfa", 5000.0, null)));
+
+        // different types -> returns false
+        assertFalse(simulateCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(simulateCommand.equals(null));
+
+        // different limits -> returns false
+        assertFalse(simulateCommand.equals(new SimulateCommand("SCFA", 5000.0, 1000.0)));
+        assertFalse(simulateCommand.equals(new SimulateCommand("SCFA", 4000.0, null)));
+
+        // different scheme -> returns false
+        assertFalse(simulateCommand.equals(new SimulateCommand("MOE FAS", 5000.0, null)));
+    }
+}
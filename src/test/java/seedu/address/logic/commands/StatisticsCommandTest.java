@@ -2,15 +2,12 @@ package seedu.address.logic.commands;
 
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
-import static seedu.address.logic.commands.StatisticsCommand.appointmentsSoon;
-import static seedu.address.logic.commands.StatisticsCommand.eligibleForScheme;
-import static seedu.address.logic.commands.StatisticsCommand.highPriorityPeople;
-import static seedu.address.logic.commands.StatisticsCommand.lowPriorityPeople;
-import static seedu.address.logic.commands.StatisticsCommand.mediumPriorityPeople;
-import static seedu.address.logic.commands.StatisticsCommand.nbOfPeople;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -21,56 +18,60 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.appointment.Appointment;
-import seedu.address.model.person.Person;
+import seedu.address.testutil.AppointmentBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for StatisticsCommand.
  */
 public class StatisticsCommandTest {
 
+    private static final LocalDate TODAY = LocalDate.now();
+
     private Model model;
     private Model expectedModel;
 
     @BeforeEach
     public void setUp() {
-        model = new ModelManager(getTypicalAddressBook(), new ArrayList<>(), new UserPrefs());
-        expectedModel = new ModelManager(model.getAddressBook(), new ArrayList<>(), new UserPrefs());
+        List<Appointment> appointments = List.of(
+                new AppointmentBuilder().withName(BENSON.getName().fullName).withDate(TODAY).build(),
+                new AppointmentBuilder().withName(ALICE.getName().fullName).withDate(TODAY.plusDays(7)).build(),
+                new AppointmentBuilder().withName(BENSON.getName().fullName).withDate(TODAY.plusDays(8)).build(),
+                new AppointmentBuilder().withName(BENSON.getName().fullName).withDate(TODAY.minusDays(1)).build());
+        model = new ModelManager(getTypicalAddressBook(), new ArrayList<>(appointments), new UserPrefs());
+        expectedModel = new ModelManager(model.getAddressBook(), new ArrayList<>(appointments), new UserPrefs());
     }
 
     @Test
     public void execute_listIsNotFiltered_showsAllStats() {
-        List<Person> personList = expectedModel.getFilteredPersonList();
-        List<Appointment> appointmentList = expectedModel.getFilteredAppointmentList();
-
-        String expectedMessage = String.format(StatisticsCommand.MESSAGE_DISPLAY_STATISTICS_SUCCESS,
-                nbOfPeople(personList) + "\n"
-                + highPriorityPeople(personList) + "\n"
-                + mediumPriorityPeople(personList) + "\n"
-                + lowPriorityPeople(personList) + "\n"
-                + appointmentsSoon(personList, appointmentList) + "\n"
-                + eligibleForScheme(personList));
-
-        assertCommandSuccess(new StatisticsCommand(), model,
-                expectedMessage, expectedModel);
+        // ALICE is the only MEDIUM priority person, BENSON the only HIGH one, and every typical person is eligible
+        assertCommandSuccess(new StatisticsCommand(), model, getExpectedMessage(7, 1, 1, 5, 2, 7), expectedModel);
     }
 
     @Test
     public void execute_listIsFiltered_showFilteredListStats() {
+        // the persons are sorted by descending priority, so BENSON is shown first
         showPersonAtIndex(model, INDEX_FIRST_PERSON);
         showPersonAtIndex(expectedModel, INDEX_FIRST_PERSON);
 
-        List<Person> personList = expectedModel.getFilteredPersonList();
-        List<Appointment> appointmentList = expectedModel.getFilteredAppointmentList();
+        assertCommandSuccess(new StatisticsCommand(), model, getExpectedMessage(1, 1, 0, 0, 1, 1), expectedModel);
+    }
 
-        String expectedMessage = String.format(StatisticsCommand.MESSAGE_DISPLAY_STATISTICS_SUCCESS,
-                nbOfPeople(personList) + "\n"
-                + highPriorityPeople(personList) + "\n"
-                + mediumPriorityPeople(personList) + "\n"
-                + lowPriorityPeople(personList) + "\n"
-                + appointmentsSoon(personList, appointmentList) + "\n"
-                + eligibleForScheme(personList));
+    @Test
+    public void execute_appointmentListIsFiltered_countsFilteredAppointmentsOnly() {
+        model.updateFilteredAppointmentList(appointment -> appointment.name().equals(ALICE.getName()));
+        expectedModel.updateFilteredAppointmentList(appointment -> appointment.name().equals(ALICE.getName()));
+
+        assertCommandSuccess(new StatisticsCommand(), model, getExpectedMessage(7, 1, 1, 5, 1, 7), expectedModel);
+    }
 
-        assertCommandSuccess(new StatisticsCommand(), model,
-               expectedMessage, expectedModel);
+    private static String getExpectedMessage(int total, int high, int medium, int low, int appointmentsSoon,
+            int eligible) {
+        return String.format(StatisticsCommand.MESSAGE_DISPLAY_STATISTICS_SUCCESS, String.join("\n",
+                String.format(StatisticsCommand.MESSAGE_DISPLAY_TOTAL_PEOPLE, total),
+                String.format(StatisticsCommand.MESSAGE_DISPLAY_HIGH_PRIORITY, high),
+                String.format(StatisticsCommand.MESSAGE_DISPLAY_MEDIUM_PRIORITY, medium),
+                String.format(StatisticsCommand.MESSAGE_DISPLAY_LOW_PRIORITY, low),
+                String.format(StatisticsCommand.MESSAGE_DISPLAY_APPOINTMENTS_SOON, appointmentsSoon),
+                String.format(StatisticsCommand.MESSAGE_DISPLAY_ELIGIBLE_PERSONS, eligible)));
     }
 }
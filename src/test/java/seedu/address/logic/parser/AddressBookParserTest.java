@@ -38,6 +38,7 @@ import seedu.address.logic.commands.GetCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListAppointmentCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.SimulateCommand;
 import seedu.address.logic.commands.SortCommand;
 import seedu.address.logic.commands.StatisticsCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -158,6 +159,12 @@ public class AddressBookParserTest {
         assertEquals(command, new SortCommand("name"));
     }
 
+    @Test
+    public void parseCommand_simulate() throws Exception {
+        Command command = parser.parseCommand(SimulateCommand.COMMAND_WORD + " SCFA " + PREFIX_INCOME + "5000");
+        assertEquals(new SimulateCommand("SCFA", 5000.0, null), command);
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE);
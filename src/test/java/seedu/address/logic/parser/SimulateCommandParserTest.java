@@ -0,0 +1,42 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.SimulateCommand;
+import seedu.address.model.person.Income;
+
+public class SimulateCommandParserTest {
+    private SimulateCommandParser parser = new SimulateCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsSimulateCommand() {
+        assertParseSuccess(parser, "SCFA income/5000", new SimulateCommand("SCFA", 5000.0, null));
+        assertParseSuccess(parser, " MOE FAS percapita/800 ", new SimulateCommand("MOE FAS", null, 800.0));
+        assertParseSuccess(parser, "SCFA percapita/1200 income/5000", new SimulateCommand("SCFA", 5000.0, 1200.0));
+    }
+
+    @Test
+    public void parse_missingArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, SimulateCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "     ", expectedMessage);
+        assertParseFailure(parser, "SCFA", expectedMessage);
+        assertParseFailure(parser, "income/5000", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidLimit_throwsParseException() {
+        assertParseFailure(parser, "SCFA income/abc", Income.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "SCFA percapita/-1", Income.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_duplicateLimit_throwsParseException() {
+        assertParseFailure(parser, "SCFA income/5000 income/6000",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_INCOME));
+    }
+}
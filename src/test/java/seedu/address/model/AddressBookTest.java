@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
@@ -78,6 +79,38 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void snapshot_addressBookChangedAfterwards_snapshotUnchanged() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        ReadOnlyAddressBook snapshot = typicalAddressBook.snapshot();
+        typicalAddressBook.removePerson(ALICE);
+
+        assertEquals(getTypicalAddressBook().getPersonList(), snapshot.getPersonList());
+        assertEquals(getTypicalAddressBook(), new AddressBook(snapshot));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPersonList().remove(0));
+    }
+
+    @Test
+    public void snapshot_equals() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        ReadOnlyAddressBook snapshot = typicalAddressBook.snapshot();
+
+        // same persons -> returns true, in either direction
+        assertEquals(typicalAddressBook, snapshot);
+        assertEquals(snapshot, typicalAddressBook);
+        assertEquals(snapshot, getTypicalAddressBook().snapshot());
+        assertEquals(typicalAddressBook.hashCode(), snapshot.hashCode());
+
+        // different persons -> returns false
+        typicalAddressBook.removePerson(ALICE);
+        assertNotEquals(typicalAddressBook, snapshot);
+        assertNotEquals(snapshot, typicalAddressBook);
+        assertNotEquals(snapshot, typicalAddressBook.snapshot());
+
+        // null -> returns false
+        assertFalse(snapshot.equals(null));
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
@@ -103,6 +136,11 @@ public class AddressBookTest {
         public ObservableList<Person> getPersonList() {
             return persons;
         }
+
+        @Override
+        public ReadOnlyAddressBook snapshot() {
+            return new AddressBookStub(persons);
+        }
     }
 
 }
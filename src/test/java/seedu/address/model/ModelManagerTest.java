@@ -5,6 +5,10 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAppointments.APPOINTMENT_ALICE;
+import static seedu.address.testutil.TypicalAppointments.APPOINTMENT_BENSON;
+import static seedu.address.testutil.TypicalAppointments.APPOINTMENT_CARL;
+import static seedu.address.testutil.TypicalAppointments.getTypicalAppointments;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 
@@ -18,8 +22,11 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.appointment.Appointment;
-import seedu.address.model.person.predicates.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.AppointmentBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -96,6 +103,73 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void getAddressContainsKeywordsPredicate_personsEdited_filteredListFollowsEdits() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(modelManager.getAddressContainsKeywordsPredicate(List.of("jurong")));
+        assertEquals(List.of(ALICE), modelManager.getFilteredPersonList());
+
+        Person movedBenson = new PersonBuilder(BENSON).withAddress("1 Jurong East St 11").build();
+        modelManager.setPerson(BENSON, movedBenson);
+        assertEquals(List.of(movedBenson, ALICE), modelManager.getFilteredPersonList());
+
+        Person movedAlice = new PersonBuilder(ALICE).withAddress("Clementi Ave 3").build();
+        modelManager.setPerson(ALICE, movedAlice);
+        assertEquals(List.of(movedBenson), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateAppointments_personWithAppointments_renamesOnlyTheirAppointments() {
+        modelManager.setAppointmentList(getTypicalAppointments());
+        Name newName = new Name("Alice Tan");
+
+        modelManager.updateAppointments(APPOINTMENT_ALICE.name(), newName);
+
+        List<Appointment> expectedAppointments = getTypicalAppointments();
+        expectedAppointments.set(0, APPOINTMENT_ALICE.withName(newName));
+        assertEquals(expectedAppointments, modelManager.getAppointmentList());
+        assertEquals(List.of(), modelManager.deleteAppointments(APPOINTMENT_ALICE.name()));
+    }
+
+    @Test
+    public void deleteAppointments_personWithAppointments_deletesOnlyTheirAppointments() {
+        modelManager.setAppointmentList(getTypicalAppointments());
+
+        assertEquals(List.of(APPOINTMENT_BENSON), modelManager.deleteAppointments(APPOINTMENT_BENSON.name()));
+
+        List<Appointment> expectedAppointments = getTypicalAppointments();
+        expectedAppointments.remove(APPOINTMENT_BENSON);
+        assertEquals(expectedAppointments, modelManager.getAppointmentList());
+    }
+
+    @Test
+    public void deleteAppointments_appointmentsOutOfDateOrder_deletesEachAtItsPosition() {
+        Appointment laterAlice = new AppointmentBuilder(APPOINTMENT_ALICE)
+                .withDate(APPOINTMENT_ALICE.date().plusDays(7)).build();
+        Appointment earlierAlice = new AppointmentBuilder(APPOINTMENT_ALICE)
+                .withDate(APPOINTMENT_ALICE.date().minusDays(7)).build();
+        modelManager.setAppointmentList(List.of(laterAlice, APPOINTMENT_BENSON, earlierAlice, APPOINTMENT_CARL));
+
+        Name newName = new Name("Alice Tan");
+        modelManager.updateAppointments(APPOINTMENT_ALICE.name(), newName);
+        assertEquals(List.of(laterAlice.withName(newName), APPOINTMENT_BENSON, earlierAlice.withName(newName),
+                APPOINTMENT_CARL), modelManager.getAppointmentList());
+
+        modelManager.deleteAppointments(newName);
+        assertEquals(List.of(APPOINTMENT_BENSON, APPOINTMENT_CARL), modelManager.getAppointmentList());
+    }
+
+    @Test
+    public void deleteAppointments_afterSetAppointmentList_usesNewAppointments() {
+        modelManager.setAppointmentList(getTypicalAppointments());
+        modelManager.setAppointmentList(List.of(APPOINTMENT_CARL));
+
+        assertEquals(List.of(), modelManager.deleteAppointments(APPOINTMENT_ALICE.name()));
+        assertEquals(List.of(APPOINTMENT_CARL), modelManager.deleteAppointments(APPOINTMENT_CARL.name()));
+        assertEquals(List.of(), modelManager.getAppointmentList());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -122,7 +196,7 @@ public class ModelManagerTest {
 
         // different filteredList -> returns false
         String[] keywords = ALICE.getName().fullName.split("\\s+");
-        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList(keywords)));
+        modelManager.updateFilteredPersonList(modelManager.getNameStartsWithKeywordsPredicate(Arrays.asList(keywords)));
         assertFalse(modelManager.equals(new ModelManager(addressBook, appointments, userPrefs)));
 
         // resets modelManager to initial state for upcoming tests
@@ -0,0 +1,169 @@
+package seedu.address.model.appointment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAppointments.APPOINTMENT_ALICE;
+import static seedu.address.testutil.TypicalAppointments.APPOINTMENT_BENSON;
+import static seedu.address.testutil.TypicalAppointments.APPOINTMENT_CARL;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.testutil.AppointmentBuilder;
+
+public class AppointmentIndexTest {
+
+    private static final Appointment SECOND_APPOINTMENT_ALICE = new AppointmentBuilder(APPOINTMENT_ALICE)
+            .withStartTime(LocalTime.of(15, 0))
+            .withEndTime(LocalTime.of(16, 0))
+            .build();
+
+    private final ObservableList<Appointment> appointments =
+            FXCollections.observableArrayList(APPOINTMENT_ALICE, APPOINTMENT_BENSON);
+    private final AppointmentIndex appointmentIndex = new AppointmentIndex(appointments);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AppointmentIndex(null));
+    }
+
+    @Test
+    public void getAppointments_existingAppointments_indexedByName() {
+        assertEquals(List.of(APPOINTMENT_ALICE), appointmentIndex.getAppointments(APPOINTMENT_ALICE.name()));
+        assertEquals(List.of(APPOINTMENT_BENSON), appointmentIndex.getAppointments(APPOINTMENT_BENSON.name()));
+        assertEquals(List.of(), appointmentIndex.getAppointments(APPOINTMENT_CARL.name()));
+    }
+
+    @Test
+    public void getAppointments_afterAdd_includesAddedAppointment() {
+        appointments.add(SECOND_APPOINTMENT_ALICE);
+        assertEquals(List.of(APPOINTMENT_ALICE, SECOND_APPOINTMENT_ALICE),
+                appointmentIndex.getAppointments(APPOINTMENT_ALICE.name()));
+    }
+
+    @Test
+    public void getAppointments_afterRemove_excludesRemovedAppointment() {
+        appointments.remove(APPOINTMENT_ALICE);
+        assertEquals(List.of(), appointmentIndex.getAppointments(APPOINTMENT_ALICE.name()));
+    }
+
+    @Test
+    public void getAppointments_afterSet_reindexedUnderNewName() {
+        Appointment renamedAppointment = APPOINTMENT_ALICE.withName(APPOINTMENT_CARL.name());
+        appointments.set(0, renamedAppointment);
+        assertEquals(List.of(), appointmentIndex.getAppointments(APPOINTMENT_ALICE.name()));
+        assertEquals(List.of(renamedAppointment), appointmentIndex.getAppointments(APPOINTMENT_CARL.name()));
+    }
+
+    @Test
+    public void getAppointments_afterSetAll_rebuilt() {
+        appointments.setAll(APPOINTMENT_CARL);
+        assertEquals(List.of(), appointmentIndex.getAppointments(APPOINTMENT_ALICE.name()));
+        assertEquals(List.of(APPOINTMENT_CARL), appointmentIndex.getAppointments(APPOINTMENT_CARL.name()));
+    }
+
+    @Test
+    public void getAppointmentsBetween_dateRange_returnsAppointmentsInRangeByDateAndTime() {
+        LocalDate date = APPOINTMENT_CARL.date();
+        Appointment afternoon = atTime(date, 14, 0, 15, 0);
+        Appointment morning = atTime(date, 8, 0, 9, 0);
+        Appointment nextDay = atTime(date.plusDays(1), 8, 0, 9, 0);
+        Appointment nextWeek = atTime(date.plusDays(7), 8, 0, 9, 0);
+        appointments.setAll(nextWeek, afternoon, nextDay, morning);
+
+        assertEquals(List.of(morning, afternoon, nextDay), appointmentIndex.getAppointmentsBetween(
+                date, date.plusDays(6)));
+        assertEquals(List.of(nextDay, nextWeek), appointmentIndex.getAppointmentsBetween(
+                date.plusDays(1), date.plusDays(7)));
+        assertEquals(List.of(), appointmentIndex.getAppointmentsBetween(date.plusDays(1), date));
+    }
+
+    @Test
+    public void getConflictingAppointments_overlappingTimes_returnsConflicts() {
+        // APPOINTMENT_ALICE is from 9:00 to 10:00
+        assertEquals(List.of(APPOINTMENT_ALICE), appointmentIndex.getConflictingAppointments(
+                atTime(APPOINTMENT_ALICE.date(), 9, 30, 11, 0)));
+        assertEquals(List.of(APPOINTMENT_ALICE), appointmentIndex.getConflictingAppointments(
+                atTime(APPOINTMENT_ALICE.date(), 8, 0, 12, 0)));
+        assertEquals(List.of(APPOINTMENT_ALICE), appointmentIndex.getConflictingAppointments(APPOINTMENT_ALICE));
+    }
+
+    @Test
+    public void getConflictingAppointments_touchingOrOtherDate_returnsEmptyList() {
+        assertEquals(List.of(), appointmentIndex.getConflictingAppointments(
+                atTime(APPOINTMENT_ALICE.date(), 10, 0, 11, 0)));
+        assertEquals(List.of(), appointmentIndex.getConflictingAppointments(
+                atTime(APPOINTMENT_ALICE.date(), 8, 0, 9, 0)));
+        assertEquals(List.of(), appointmentIndex.getConflictingAppointments(
+                atTime(APPOINTMENT_ALICE.date().plusDays(7), 9, 0, 10, 0)));
+    }
+
+    @Test
+    public void getConflictingAppointments_longAppointmentStartingEarlier_returnsConflict() {
+        Appointment allDay = atTime(APPOINTMENT_CARL.date(), 0, 0, 23, 0);
+        Appointment morning = atTime(APPOINTMENT_CARL.date(), 8, 0, 9, 0);
+        appointments.setAll(allDay, morning);
+
+        assertEquals(List.of(allDay), appointmentIndex.getConflictingAppointments(
+                atTime(APPOINTMENT_CARL.date(), 20, 0, 21, 0)));
+
+        appointments.remove(allDay);
+        assertEquals(List.of(), appointmentIndex.getConflictingAppointments(
+                atTime(APPOINTMENT_CARL.date(), 20, 0, 21, 0)));
+    }
+
+    @Test
+    public void getConflictingAppointments_matchesHasConflictWith() {
+        LocalDate date = APPOINTMENT_CARL.date();
+        appointments.setAll(atTime(date, 8, 0, 12, 0), atTime(date, 9, 0, 10, 0), atTime(date, 11, 0, 14, 0),
+                atTime(date, 13, 0, 13, 30), atTime(date, 16, 0, 17, 0), APPOINTMENT_ALICE);
+
+        for (int startHour = 0; startHour < 23; startHour++) {
+            Appointment query = atTime(date, startHour, 30, startHour + 1, 30);
+            List<Appointment> expectedConflicts = appointments.stream()
+                    .filter(query::hasConflictWith)
+                    .sorted(Comparator.comparing(Appointment::startTime))
+                    .toList();
+            assertEquals(expectedConflicts, appointmentIndex.getConflictingAppointments(query));
+        }
+    }
+
+    @Test
+    public void getConflicts_overlappingAppointments_returnsEveryPair() {
+        LocalDate date = APPOINTMENT_CARL.date();
+        Appointment first = atTime(date, 8, 0, 12, 0);
+        Appointment second = atTime(date, 9, 0, 10, 0);
+        Appointment third = atTime(date, 11, 0, 14, 0);
+        Appointment fourth = atTime(date, 14, 0, 15, 0);
+        appointments.setAll(fourth, third, second, first, APPOINTMENT_ALICE);
+
+        assertEquals(List.of(new AppointmentConflict(first, second), new AppointmentConflict(first, third)),
+                appointmentIndex.getConflicts());
+    }
+
+    @Test
+    public void getConflicts_noOverlaps_returnsEmptyList() {
+        assertEquals(List.of(), appointmentIndex.getConflicts());
+    }
+
+    @Test
+    public void getAppointments_differentCaseName_found() {
+        String lowerCaseName = APPOINTMENT_ALICE.name().fullName.toLowerCase();
+        assertEquals(List.of(APPOINTMENT_ALICE), appointmentIndex.getAppointments(
+                new AppointmentBuilder(APPOINTMENT_ALICE).withName(lowerCaseName).build().name()));
+    }
+
+    private static Appointment atTime(LocalDate date, int startHour, int startMinute, int endHour, int endMinute) {
+        return new AppointmentBuilder(APPOINTMENT_CARL)
+                .withDate(date)
+                .withStartTime(LocalTime.of(startHour, startMinute))
+                .withEndTime(LocalTime.of(endHour, endMinute))
+                .build();
+    }
+}
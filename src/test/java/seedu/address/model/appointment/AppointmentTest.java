@@ -2,6 +2,7 @@ package seedu.address.model.appointment;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -61,6 +62,13 @@ public class AppointmentTest {
         assertEquals("2:00 PM", nonConflictingAppointment.getFormattedEndTime());
     }
 
+    @Test
+    public void getFormattedDateAndTimes_sameValues_reuseFormattedStrings() {
+        Appointment laterAppointment = new Appointment(name, date, LocalTime.of(11, 0), LocalTime.of(12, 0));
+        assertSame(appointment.getFormattedDate(), laterAppointment.getFormattedDate());
+        assertSame(appointment.getFormattedEndTime(), laterAppointment.getFormattedStartTime());
+    }
+
     @Test
     public void hasConflictWith() {
         assertTrue(appointment.hasConflictWith(conflictingAppointment));
@@ -0,0 +1,37 @@
+package seedu.address.model.appointment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class FormatCacheTest {
+
+    private final List<Integer> formattedValues = new ArrayList<>();
+    private final FormatCache<Integer> cache = new FormatCache<>(4, value -> {
+        formattedValues.add(value);
+        return "#" + value;
+    });
+
+    @Test
+    public void get_sameValue_formatsOnce() {
+        String formatted = cache.get(1);
+        assertSame(formatted, cache.get(1));
+        assertEquals("#1", formatted);
+        assertEquals(List.of(1), formattedValues);
+    }
+
+    @Test
+    public void get_moreValuesThanCapacity_evictsAndFormatsAgain() {
+        for (int value = 0; value < 100; value++) {
+            assertEquals("#" + value, cache.get(value));
+        }
+
+        // 0 and 4 share a slot, so 0 was evicted long ago
+        assertEquals("#0", cache.get(0));
+        assertEquals(101, formattedValues.size());
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -53,4 +54,10 @@ public class AddressTest {
         // different values -> returns false
         assertFalse(address.equals(new Address("Other Valid Address")));
     }
+
+    @Test
+    public void getSearchKey_mixedCaseAddress_returnsLowerCase() {
+        assertEquals("blk 30 geylang street 29, #06-40",
+                new Address("Blk 30 Geylang Street 29, #06-40").getSearchKey());
+    }
 }
@@ -0,0 +1,44 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.PersonSearchIndexUtil.search;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressTrigramIndexTest {
+
+    private final ObservableList<Person> persons = FXCollections.observableArrayList(getTypicalPersons());
+    private final AddressTrigramIndex addressIndex = new AddressTrigramIndex(persons);
+
+    @Test
+    public void search_keywordInAddress_returnsMatchingPersons() {
+        assertEquals(Set.of(ALICE), search(addressIndex, persons, "jurong"));
+        assertEquals(Set.of(ALICE, BENSON), search(addressIndex, persons, "jurong", "clementi"));
+        assertEquals(Set.of(BENSON), search(addressIndex, persons, "#02-25"));
+    }
+
+    @Test
+    public void search_keywordShorterThanTrigram_scansEveryPerson() {
+        assertEquals(Set.of(ALICE, BENSON), search(addressIndex, persons, "#0"));
+        assertEquals(Set.of(), search(addressIndex, persons, "zz"));
+    }
+
+    @Test
+    public void search_keywordWithAllTrigramsButNotContained_returnsNoPersons() {
+        // "abcd bcde" has every trigram of "abcde", but does not contain it
+        Person person = new PersonBuilder().withName("Xavier").withAddress("abcd bcde").build();
+        persons.add(person);
+        assertEquals(Set.of(), search(addressIndex, persons, "abcde"));
+        assertEquals(Set.of(person), search(addressIndex, persons, "bcde"));
+        assertEquals(Set.of(), search(addressIndex, persons, "singapore"));
+    }
+}
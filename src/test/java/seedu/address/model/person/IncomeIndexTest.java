@@ -0,0 +1,78 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.PersonSearchIndexUtil.search;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.testutil.PersonBuilder;
+
+public class IncomeIndexTest {
+
+    private final ObservableList<Person> persons = FXCollections.observableArrayList(getTypicalPersons());
+    private final IncomeIndex incomeIndex = new IncomeIndex(persons);
+
+    @Test
+    public void search_incomeLimits_returnsPersonsWithinAnyLimit() {
+        assertEquals(Set.of(BENSON), search(incomeIndex, persons, "0"));
+        assertEquals(Set.of(BENSON, CARL, ALICE), search(incomeIndex, persons, "1000.00"));
+        assertEquals(Set.of(BENSON, CARL), search(incomeIndex, persons, "999.99", "500"));
+        assertEquals(Set.copyOf(getTypicalPersons()), search(incomeIndex, persons, "100000"));
+    }
+
+    @Test
+    public void search_limitBelowEveryIncome_returnsNoPersons() {
+        persons.remove(BENSON);
+        assertEquals(Set.of(), search(incomeIndex, persons, "970.49"));
+    }
+
+    @Test
+    public void search_personWithSameIncomeRemoved_otherPersonStillFound() {
+        search(incomeIndex, persons, "0");
+
+        Person secondBenson = new PersonBuilder(BENSON).withName("Benson Tan").build();
+        persons.add(secondBenson);
+        persons.remove(BENSON);
+
+        assertEquals(Set.of(secondBenson), search(incomeIndex, persons, "0"));
+    }
+
+    @Test
+    public void search_manyPersons_indexGrows() {
+        persons.clear();
+        for (int i = 0; i < 100; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).withIncome(i).build());
+        }
+        assertEquals(50, search(incomeIndex, persons, "49.5").size());
+
+        persons.remove(0, 25);
+        assertEquals(25, search(incomeIndex, persons, "49.5").size());
+    }
+
+    @Test
+    public void search_listReplacedAfterSearch_columnSortedAgain() {
+        search(incomeIndex, persons, "0");
+
+        List<Person> replacements = new ArrayList<>();
+        for (int i = 99; i >= 0; i--) {
+            replacements.add(new PersonBuilder().withName("Person " + i).withIncome(i).build());
+        }
+        persons.setAll(replacements);
+        assertEquals(Set.copyOf(replacements.subList(50, 100)), search(incomeIndex, persons, "49.5"));
+
+        // a single change after the rebuild is applied on its own
+        Person richestPerson = replacements.get(0);
+        persons.set(0, new PersonBuilder(richestPerson).withIncome(0).build());
+        assertEquals(51, search(incomeIndex, persons, "49.5").size());
+    }
+}
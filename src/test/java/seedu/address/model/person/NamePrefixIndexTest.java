@@ -0,0 +1,36 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.PersonSearchIndexUtil.search;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+public class NamePrefixIndexTest {
+
+    private final ObservableList<Person> persons = FXCollections.observableArrayList(getTypicalPersons());
+    private final NamePrefixIndex nameIndex = new NamePrefixIndex(persons);
+
+    @Test
+    public void search_prefixOfNames_returnsMatchingPersons() {
+        assertEquals(Set.of(ALICE), search(nameIndex, persons, "a"));
+        assertEquals(Set.of(BENSON, CARL), search(nameIndex, persons, "benson", "car"));
+        assertEquals(Set.of(DANIEL), search(nameIndex, persons, "daniel meier"));
+    }
+
+    @Test
+    public void search_notPrefixOfAnyName_returnsNoPersons() {
+        assertEquals(Set.of(), search(nameIndex, persons, "meier"));
+        assertEquals(Set.of(), search(nameIndex, persons, "alice paulinex"));
+        assertEquals(Set.of(), search(nameIndex, persons, "zed"));
+    }
+}
@@ -1,9 +1,12 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.Locale;
+
 import org.junit.jupiter.api.Test;
 
 public class NameTest {
@@ -57,4 +60,27 @@ public class NameTest {
         // different values -> returns false
         assertFalse(name.equals(new Name("Other Valid Name")));
     }
+
+    @Test
+    public void hashCode_differentCase_sameHashCode() {
+        assertEquals(new Name("Valid Name").hashCode(), new Name("vALID nAME").hashCode());
+    }
+
+    @Test
+    public void getSearchKey_mixedCaseName_returnsLowerCase() {
+        assertEquals("alex yeoh", new Name("Alex YEOH").getSearchKey());
+    }
+
+    @Test
+    public void hashCode_turkishDefaultLocale_sameHashCode() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr"));
+        try {
+            // a Turkish default locale would lowercase "I" to a dotless i
+            assertEquals(new Name("IRFAN").hashCode(), new Name("irfan").hashCode());
+            assertEquals("irfan", new Name("IRFAN").getSearchKey());
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
 }
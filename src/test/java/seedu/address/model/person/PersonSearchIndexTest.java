@@ -0,0 +1,82 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.PersonSearchIndexUtil.search;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains the tests that every {@code PersonSearchIndex} must pass, run against each kind of index.
+ */
+public class PersonSearchIndexTest {
+
+    private final ObservableList<Person> persons = FXCollections.observableArrayList(getTypicalPersons());
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AddressTrigramIndex(null));
+        assertThrows(NullPointerException.class, () -> new NamePrefixIndex(null));
+        assertThrows(NullPointerException.class, () -> new IncomeIndex(null));
+    }
+
+    @Test
+    public void search_afterListChanges_reflectsChanges() {
+        AddressTrigramIndex addressIndex = new AddressTrigramIndex(persons);
+        NamePrefixIndex nameIndex = new NamePrefixIndex(persons);
+        IncomeIndex incomeIndex = new IncomeIndex(persons);
+
+        // search once first, so that the changes are applied to built indexes
+        search(addressIndex, persons, "street");
+        search(nameIndex, persons, "a");
+        search(incomeIndex, persons, "0");
+
+        Person changedCarl = new PersonBuilder(CARL).withName("Alex Kurz").withAddress("Jurong Point")
+                .withIncome(100).build();
+        persons.set(persons.indexOf(CARL), changedCarl);
+        persons.remove(DANIEL);
+        // takes the place in the index that the removed person had
+        persons.add(HOON);
+
+        assertEquals(Set.of(ALICE, changedCarl), search(addressIndex, persons, "jurong"));
+        assertEquals(Set.of(), search(addressIndex, persons, "wall", "10th"));
+        assertEquals(Set.of(HOON), search(addressIndex, persons, "india"));
+
+        assertEquals(Set.of(ALICE, changedCarl), search(nameIndex, persons, "a"));
+        assertEquals(Set.of(), search(nameIndex, persons, "carl", "daniel"));
+        assertEquals(Set.of(HOON), search(nameIndex, persons, "hoon"));
+
+        assertEquals(Set.of(BENSON, changedCarl, HOON), search(incomeIndex, persons, "970.50"));
+        assertEquals(Set.of(ALICE, BENSON, changedCarl, FIONA, GEORGE, HOON), search(incomeIndex, persons, "2500"));
+    }
+
+    @Test
+    public void search_listChangedBeforeFirstSearch_indexBuiltFromCurrentList() {
+        AddressTrigramIndex addressIndex = new AddressTrigramIndex(persons);
+        persons.setAll(CARL);
+        assertEquals(Set.of(CARL), search(addressIndex, persons, "street"));
+    }
+
+    @Test
+    public void getVersion_listChanged_versionChanges() {
+        AddressTrigramIndex addressIndex = new AddressTrigramIndex(persons);
+        long version = addressIndex.getVersion();
+        persons.remove(ALICE);
+        assertNotEquals(version, addressIndex.getVersion());
+    }
+}
@@ -0,0 +1,83 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonStatisticsTest {
+
+    private final ObservableList<Person> persons = FXCollections.observableArrayList(getTypicalPersons());
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new PersonStatistics(null));
+    }
+
+    @Test
+    public void getCount_typicalPersons_matchesListTotals() {
+        PersonStatistics statistics = new PersonStatistics(persons);
+
+        // ALICE is the only MEDIUM priority person, BENSON the only HIGH one, and every typical person is eligible
+        assertTotals(statistics, 7, 1, 1, 5, 7);
+        persons.forEach(person -> assertTrue(statistics.containsName(person.getName())));
+    }
+
+    @Test
+    public void getCount_priorityChanged_countMovesBetweenPriorities() {
+        PersonStatistics statistics = new PersonStatistics(persons);
+
+        persons.set(persons.indexOf(ALICE), new PersonBuilder(ALICE).withPriority("HIGH").build());
+        assertTotals(statistics, 7, 2, 0, 5, 7);
+
+        persons.set(persons.indexOf(BENSON), new PersonBuilder(BENSON).withPriority("MEDIUM").build());
+        assertTotals(statistics, 7, 1, 1, 5, 7);
+    }
+
+    @Test
+    public void getCount_afterListChanges_matchesListTotals() {
+        PersonStatistics statistics = new PersonStatistics(persons);
+
+        persons.remove(ALICE);
+        persons.set(0, new PersonBuilder(BENSON).withPriority("LOW").withIncome(100000).build());
+        persons.add(new PersonBuilder().withName("Xavier").withPriority("HIGH").build());
+
+        // BENSON is now LOW priority and too rich for any scheme, and Xavier is HIGH priority with no income
+        assertTotals(statistics, 7, 1, 0, 6, 6);
+        assertFalse(statistics.containsName(ALICE.getName()));
+        assertTrue(statistics.containsName(new Name("xavier")));
+    }
+
+    @Test
+    public void getCount_filterChanged_matchesFilteredTotals() {
+        FilteredList<Person> filteredPersons = new FilteredList<>(persons);
+        PersonStatistics statistics = new PersonStatistics(filteredPersons);
+
+        filteredPersons.setPredicate(person -> person.getPriority() == Priority.HIGH);
+        assertTotals(statistics, 1, 1, 0, 0, 1);
+        assertTrue(statistics.containsName(BENSON.getName()));
+        assertFalse(statistics.containsName(ALICE.getName()));
+
+        filteredPersons.setPredicate(null);
+        assertTotals(statistics, 7, 1, 1, 5, 7);
+    }
+
+    private static void assertTotals(PersonStatistics statistics, int count, int highCount, int mediumCount,
+            int lowCount, int schemeEligibleCount) {
+        assertEquals(count, statistics.getCount());
+        assertEquals(highCount, statistics.getCount(Priority.HIGH));
+        assertEquals(mediumCount, statistics.getCount(Priority.MEDIUM));
+        assertEquals(lowCount, statistics.getCount(Priority.LOW));
+        assertEquals(schemeEligibleCount, statistics.getSchemeEligibleCount());
+    }
+}
@@ -1,78 +0,0 @@
-package seedu.address.model.person.predicates;
-
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertFalse;
-import static org.junit.jupiter.api.Assertions.assertTrue;
-
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.List;
-
-import org.junit.jupiter.api.Test;
-
-import seedu.address.testutil.PersonBuilder;
-
-public class AddressContainsKeywordsPredicateTest {
-
-    @Test
-    public void equals() {
-        List<String> firstKeywordList = Collections.singletonList("address 1");
-        List<String> secondKeywordList = Arrays.asList("address 1", "address 2");
-
-        AddressContainsKeywordsPredicate firstPredicate = new AddressContainsKeywordsPredicate(firstKeywordList);
-        AddressContainsKeywordsPredicate secondPredicate = new AddressContainsKeywordsPredicate(secondKeywordList);
-
-        // same object -> returns true
-        assertTrue(firstPredicate.equals(firstPredicate));
-
-        // same values -> returns true
-        AddressContainsKeywordsPredicate firstPredicateCopy = new AddressContainsKeywordsPredicate(firstKeywordList);
-        assertTrue(firstPredicate.equals(firstPredicateCopy));
-
-        // different types -> returns false
-        assertFalse(firstPredicate.equals(1));
-
-        // null -> returns false
-        assertFalse(firstPredicate.equals(null));
-
-        // different addresses -> returns false
-        assertFalse(firstPredicate.equals(secondPredicate));
-    }
-
-    @Test
-    public void test_addressContainsKeywords_returnsTrue() {
-        // One keyword
-        AddressContainsKeywordsPredicate predicate = new AddressContainsKeywordsPredicate(
-                Collections.singletonList("Clementi"));
-        assertTrue(predicate.test(new PersonBuilder().withAddress("Clementi Ave 2").build()));
-
-        // Multiple keywords
-        predicate = new AddressContainsKeywordsPredicate(Arrays.asList("Clementi", "Jurong"));
-        assertTrue(predicate.test(new PersonBuilder().withAddress("Clementi Ave 2").build()));
-
-        // Mixed-case keywords
-        predicate = new AddressContainsKeywordsPredicate(Arrays.asList("CLeMenTi"));
-        assertTrue(predicate.test(new PersonBuilder().withAddress("Clementi Ave 2").build()));
-    }
-
-    @Test
-    public void test_addressDoesNotContainKeywords_returnsFalse() {
-        // Zero keywords
-        AddressContainsKeywordsPredicate predicate = new AddressContainsKeywordsPredicate(Collections.emptyList());
-        assertFalse(predicate.test(new PersonBuilder().withAddress("Serangoon Ave 2").build()));
-
-        // Non-matching keyword
-        predicate = new AddressContainsKeywordsPredicate(Arrays.asList("Geylang"));
-        assertFalse(predicate.test(new PersonBuilder().withAddress("Bishan Ave 1").build()));
-
-    }
-
-    @Test
-    public void toStringMethod() {
-        List<String> keywords = List.of("keyword1", "keyword2");
-        AddressContainsKeywordsPredicate predicate = new AddressContainsKeywordsPredicate(keywords);
-
-        String expected = AddressContainsKeywordsPredicate.class.getCanonicalName() + "{keywords=" + keywords + "}";
-        assertEquals(expected, predicate.toString());
-    }
-}
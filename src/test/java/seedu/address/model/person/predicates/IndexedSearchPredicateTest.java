@@ -0,0 +1,95 @@
+package seedu.address.model.person.predicates;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.AddressTrigramIndex;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class IndexedSearchPredicateTest {
+
+    private final ObservableList<Person> persons = FXCollections.observableArrayList(getTypicalPersons());
+    private final AddressTrigramIndex addressIndex = new AddressTrigramIndex(persons);
+
+    @Test
+    public void equals() {
+        List<String> firstKeywordList = Collections.singletonList("first");
+        List<String> secondKeywordList = Arrays.asList("first", "second");
+
+        IndexedSearchPredicate firstPredicate = new IndexedSearchPredicate(addressIndex, firstKeywordList);
+        IndexedSearchPredicate secondPredicate = new IndexedSearchPredicate(addressIndex, secondKeywordList);
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        IndexedSearchPredicate firstPredicateCopy = new IndexedSearchPredicate(addressIndex, firstKeywordList);
+        assertTrue(firstPredicate.equals(firstPredicateCopy));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+
+        // different index -> returns false
+        AddressTrigramIndex otherIndex = new AddressTrigramIndex(FXCollections.observableArrayList());
+        assertFalse(firstPredicate.equals(new IndexedSearchPredicate(otherIndex, firstKeywordList)));
+    }
+
+    @Test
+    public void test_personFoundByIndex_returnsTrue() {
+        IndexedSearchPredicate predicate = new IndexedSearchPredicate(addressIndex, Arrays.asList("CLeMenTi"));
+        assertTrue(predicate.test(BENSON));
+        assertFalse(predicate.test(ALICE));
+    }
+
+    @Test
+    public void test_personAddedAfterCreation_searchRerun() {
+        IndexedSearchPredicate predicate = new IndexedSearchPredicate(addressIndex, Arrays.asList("Clementi"));
+        assertTrue(predicate.test(BENSON));
+
+        Person movedAlice = new PersonBuilder(ALICE).withAddress("Clementi Ave 3").build();
+        persons.add(movedAlice);
+        assertTrue(predicate.test(movedAlice));
+
+        persons.remove(BENSON);
+        assertFalse(predicate.test(BENSON));
+    }
+
+    @Test
+    public void test_otherPredicateSearchesSameIndex_matchesUnaffected() {
+        IndexedSearchPredicate clementiPredicate = new IndexedSearchPredicate(addressIndex, List.of("clementi"));
+        IndexedSearchPredicate jurongPredicate = new IndexedSearchPredicate(addressIndex, List.of("jurong"));
+        assertTrue(clementiPredicate.test(BENSON));
+        assertTrue(jurongPredicate.test(ALICE));
+
+        assertTrue(clementiPredicate.test(BENSON));
+        assertFalse(clementiPredicate.test(ALICE));
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<String> keywords = List.of("keyword1", "keyword2");
+        IndexedSearchPredicate predicate = new IndexedSearchPredicate(addressIndex, keywords);
+
+        String expected = IndexedSearchPredicate.class.getCanonicalName() + "{keywords=" + keywords + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
@@ -10,6 +10,7 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.person.Priority;
 import seedu.address.testutil.PersonBuilder;
 
 public class PriorityPredicateTest {
@@ -66,6 +67,21 @@ public class PriorityPredicateTest {
 
     }
 
+    @Test
+    public void test_keywordsResolvedToPriorities_matchesExactlyNamedPriorities() {
+        // repeated and mixed-case keywords name the same priority, and unknown keywords are ignored
+        PriorityPredicate predicate = new PriorityPredicate(Arrays.asList("medium", "MEDIUM", "low", "urgent"));
+        assertFalse(predicate.test(new PersonBuilder().withPriority("HIGH").build()));
+        assertTrue(predicate.test(new PersonBuilder().withPriority("MEDIUM").build()));
+        assertTrue(predicate.test(new PersonBuilder().withPriority("LOW").build()));
+
+        // every priority named
+        predicate = new PriorityPredicate(Arrays.asList("HIGH", "MEDIUM", "LOW"));
+        for (Priority priority : Priority.values()) {
+            assertTrue(predicate.test(new PersonBuilder().withPriority(priority.name()).build()));
+        }
+    }
+
     @Test
     public void toStringMethod() {
         List<String> keywords = List.of("HIGH", "MEDIUM");
@@ -0,0 +1,73 @@
+package seedu.address.model.scheme;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class EligibilitySimulatorTest {
+
+    private static final EligibilityCondition LOW_INCOME = new EligibilityCondition(
+            1000, Double.POSITIVE_INFINITY, 0, Integer.MAX_VALUE);
+    private static final Scheme LOW_INCOME_SCHEME = new Scheme("Low Income", "LI", List.of(LOW_INCOME));
+    private static final SchemeTable CURRENT_SCHEMES = new SchemeTable(List.of(LOW_INCOME_SCHEME));
+
+    @Test
+    public void constructor_differentSchemes_throwsIllegalArgumentException() {
+        SchemeTable otherSchemes = new SchemeTable(List.of(new Scheme("Other", "O", List.of(LOW_INCOME))));
+        assertThrows(IllegalArgumentException.class, EligibilitySimulator.MESSAGE_MISMATCHED_TABLES, () ->
+                new EligibilitySimulator(CURRENT_SCHEMES, otherSchemes));
+    }
+
+    @Test
+    public void simulate_raisedLimit_findsPersonsGaining() {
+        Person eligible = new PersonBuilder().withName("Amy").withIncome(500).build();
+        Person gaining = new PersonBuilder().withName("Bob").withIncome(1500).build();
+        Person ineligible = new PersonBuilder().withName("Cat").withIncome(2500).build();
+        EligibilitySimulator simulator = new EligibilitySimulator(CURRENT_SCHEMES,
+                CURRENT_SCHEMES.withScheme(LOW_INCOME_SCHEME.withMaxIncome(2000)));
+
+        EligibilityChanges changes = simulator.simulate(List.of(eligible, gaining, ineligible));
+        assertEquals(List.of(gaining), changes.getAffectedPersons());
+        assertEquals(List.of(gaining), changes.getPersonsGaining(0));
+        assertEquals(List.of(), changes.getPersonsLosing(0));
+    }
+
+    @Test
+    public void simulate_manyPersons_matchesSequentialEvaluation() {
+        // enough persons for the simulation to be split into several ranges
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < EligibilitySimulator.SEQUENTIAL_THRESHOLD * 4 + 1; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).withIncome(i % 1500).build());
+        }
+        EligibilitySimulator simulator = new EligibilitySimulator(CURRENT_SCHEMES,
+                CURRENT_SCHEMES.withScheme(LOW_INCOME_SCHEME.withMaxIncome(500)));
+
+        List<Person> expectedLosing = new ArrayList<>();
+        for (Person person : persons) {
+            double income = person.getIncome().getValue();
+            if (income > 500 && income <= 1000) {
+                expectedLosing.add(person);
+            }
+        }
+
+        EligibilityChanges changes = simulator.simulate(persons);
+        assertEquals(expectedLosing, changes.getAffectedPersons());
+        assertEquals(expectedLosing, changes.getPersonsLosing(0));
+        assertEquals(List.of(), changes.getPersonsGaining(0));
+    }
+
+    @Test
+    public void simulate_unchangedSchemes_findsNoChanges() {
+        Person person = new PersonBuilder().withIncome(500).build();
+        EligibilityChanges changes = new EligibilitySimulator(CURRENT_SCHEMES, CURRENT_SCHEMES)
+                .simulate(List.of(person));
+        assertEquals(List.of(), changes.getAffectedPersons());
+    }
+}
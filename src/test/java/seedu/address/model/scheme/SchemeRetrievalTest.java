@@ -0,0 +1,42 @@
+package seedu.address.model.scheme;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class SchemeRetrievalTest {
+
+    private static final Scheme MOE_FAS = Scheme.getRegisteredSchemes().get(0);
+    private static final Scheme SCFA = Scheme.getRegisteredSchemes().get(1);
+
+    @Test
+    public void getSchemes_eligiblePerson_returnsSharedSchemes() {
+        Person person = new PersonBuilder().withIncome(3000).withFamilySize(4).build();
+        List<Scheme> schemes = new SchemeRetrieval(person).getSchemes();
+
+        assertEquals(List.of(MOE_FAS, SCFA), schemes);
+        assertSame(MOE_FAS, schemes.get(0));
+        assertEquals(BitSet.valueOf(new long[] {0b11}), person.getSchemeEligibility());
+    }
+
+    @Test
+    public void getSchemes_ineligiblePerson_returnsEmptyList() {
+        Person person = new PersonBuilder().withIncome(10000).withFamilySize(2).build();
+        assertEquals(List.of(), new SchemeRetrieval(person).getSchemes());
+    }
+
+    @Test
+    public void createScheme_registeredName_returnsSharedInstance() {
+        assertSame(MOE_FAS, Scheme.createScheme("MOE Financial Assistance Scheme (MOE FAS)"));
+        assertSame(SCFA, Scheme.createScheme("Student Care Fee Assistance (SCFA)"));
+        assertThrows(IllegalArgumentException.class, () -> Scheme.createScheme("Unknown Scheme"));
+    }
+}
@@ -0,0 +1,148 @@
+package seedu.address.model.scheme;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class SchemeTableTest {
+
+    private static final EligibilityCondition LOW_INCOME = new EligibilityCondition(
+            1000, Double.POSITIVE_INFINITY, 0, Integer.MAX_VALUE);
+    private static final EligibilityCondition LARGE_FAMILY = new EligibilityCondition(
+            Double.POSITIVE_INFINITY, 500, 5, Integer.MAX_VALUE);
+
+    @Test
+    public void getDefault_bundledDefinitions_loadsSchemes() {
+        List<Scheme> schemes = SchemeTable.getDefault().getSchemes();
+        assertEquals(2, schemes.size());
+        assertEquals("MOE FAS", schemes.get(0).getSchemeNameShort());
+        assertEquals("SCFA", schemes.get(1).getSchemeNameShort());
+    }
+
+    @Test
+    public void evaluate_defaultSchemes_setsBitPerEligibleScheme() {
+        SchemeTable table = SchemeTable.getDefault();
+        assertEquals(bits(0b11), table.evaluate(3000, 4));
+        assertEquals(bits(0b10), table.evaluate(4000, 4));
+        assertEquals(bits(0b10), table.evaluate(5000, 5));
+        assertEquals(bits(0), table.evaluate(10000, 2));
+    }
+
+    @Test
+    public void evaluate_defaultSchemes_matchesSchemeEligibility() {
+        SchemeTable table = SchemeTable.getDefault();
+        for (int familySize = 1; familySize <= 8; familySize++) {
+            for (int income = 0; income <= 10000; income += 250) {
+                BitSet expected = new BitSet();
+                List<Scheme> schemes = table.getSchemes();
+                for (int i = 0; i < schemes.size(); i++) {
+                    int incomePerCapita = SchemeTable.getIncomePerCapita(income, familySize);
+                    if (schemes.get(i).isEligible(income, familySize, incomePerCapita)) {
+                        expected.set(i);
+                    }
+                }
+                assertEquals(expected, table.evaluate(income, familySize));
+            }
+        }
+    }
+
+    @Test
+    public void evaluate_batch_matchesSingleEvaluation() {
+        SchemeTable table = new SchemeTable(List.of(new Scheme("Low Income", "LI", List.of(LOW_INCOME)),
+                new Scheme("Support", "S", List.of(LOW_INCOME, LARGE_FAMILY))));
+        double[] incomes = {500, 1500, 2000, 2000};
+        int[] familySizes = {1, 2, 5, 4};
+
+        assertEquals(1, table.getWordsPerHousehold());
+        assertArrayEquals(new long[] {0b11, 0b00, 0b10, 0b00}, table.evaluate(incomes, familySizes));
+        for (int i = 0; i < incomes.length; i++) {
+            assertEquals(table.evaluate(incomes[i], familySizes[i]), bits(table.evaluate(incomes, familySizes)[i]));
+        }
+    }
+
+    @Test
+    public void evaluate_moreSchemesThanBitsInWord_spansSeveralWords() {
+        // every third scheme has a low income limit, the others a large family limit
+        List<Scheme> schemes = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            schemes.add(new Scheme("Scheme " + i, "S" + i, List.of(i % 3 == 0 ? LOW_INCOME : LARGE_FAMILY)));
+        }
+        SchemeTable table = new SchemeTable(schemes);
+        assertEquals(2, table.getWordsPerHousehold());
+
+        BitSet lowIncomeSchemes = new BitSet();
+        for (int i = 0; i < 100; i += 3) {
+            lowIncomeSchemes.set(i);
+        }
+        assertEquals(lowIncomeSchemes, table.evaluate(500, 1));
+
+        long[] eligibilities = table.evaluate(new double[] {2000, 500}, new int[] {1, 1});
+        assertArrayEquals(new long[] {0, 0}, Arrays.copyOfRange(eligibilities, 0, 2));
+        assertEquals(lowIncomeSchemes, BitSet.valueOf(Arrays.copyOfRange(eligibilities, 2, 4)));
+    }
+
+    @Test
+    public void evaluate_batchOfDifferentLengths_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                SchemeTable.getDefault().evaluate(new double[2], new int[1]));
+    }
+
+    @Test
+    public void constructor_invalidSchemes_throwsIllegalArgumentException() {
+        Scheme scheme = new Scheme("Low Income", "LI", List.of(LOW_INCOME));
+        assertThrows(IllegalArgumentException.class, SchemeTable.MESSAGE_DUPLICATE_SCHEME, () ->
+                new SchemeTable(List.of(scheme, scheme)));
+    }
+
+    @Test
+    public void getSchemeByShortName_anyCase_returnsScheme() {
+        SchemeTable table = SchemeTable.getDefault();
+        assertEquals(table.getSchemes().get(1), table.getSchemeByShortName("scfa").get());
+        assertTrue(table.getSchemeByShortName("SCFA2").isEmpty());
+    }
+
+    @Test
+    public void withScheme_changedLimits_replacesSchemeInPlace() {
+        Scheme lowIncome = new Scheme("Low Income", "LI", List.of(LOW_INCOME));
+        Scheme support = new Scheme("Support", "S", List.of(LOW_INCOME, LARGE_FAMILY));
+        SchemeTable table = new SchemeTable(List.of(lowIncome, support));
+
+        // only the limits a condition already has are changed
+        SchemeTable changedTable = table.withScheme(support.withMaxIncome(2000).withMaxIncomePerCapita(400));
+        assertEquals(List.of(new EligibilityCondition(2000, Double.POSITIVE_INFINITY, 0, Integer.MAX_VALUE),
+                new EligibilityCondition(Double.POSITIVE_INFINITY, 400, 5, Integer.MAX_VALUE)),
+                changedTable.getSchemes().get(1).getConditions());
+        assertEquals(bits(0), table.evaluate(1500, 1));
+        assertEquals(bits(0b10), changedTable.evaluate(1500, 1));
+
+        assertThrows(IllegalArgumentException.class, () ->
+                table.withScheme(new Scheme("Unknown", "U", List.of(LOW_INCOME))));
+    }
+
+    @Test
+    public void fromJsonString_validDefinitions_compilesSchemes() throws Exception {
+        SchemeTable table = SchemeTable.fromJsonString("[ { \"name\" : \"Low Income\", \"shortName\" : \"LI\", "
+                + "\"conditions\" : [ { \"maxIncome\" : 1000 } ] } ]");
+        assertEquals(List.of(new Scheme("Low Income", "LI", List.of(LOW_INCOME))), table.getSchemes());
+        assertEquals(LOW_INCOME, table.getSchemes().get(0).getConditions().get(0));
+    }
+
+    @Test
+    public void fromJsonString_invalidDefinitions_throwsIoException() {
+        assertThrows(IOException.class, () -> SchemeTable.fromJsonString("[ { \"shortName\" : \"LI\" } ]"));
+        assertThrows(IOException.class, () -> SchemeTable.fromJsonString("{ \"name\" : \"Low Income\" }"));
+    }
+
+    private static BitSet bits(long word) {
+        return BitSet.valueOf(new long[] {word});
+    }
+}
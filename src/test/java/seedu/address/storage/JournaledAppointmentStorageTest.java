@@ -0,0 +1,118 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAppointments.APPOINTMENT_ALICE;
+import static seedu.address.testutil.TypicalAppointments.APPOINTMENT_BENSON;
+import static seedu.address.testutil.TypicalAppointments.getTypicalAppointments;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.appointment.Appointment;
+import seedu.address.testutil.AppointmentBuilder;
+
+public class JournaledAppointmentStorageTest {
+
+    private static final Appointment APPOINTMENT_HOON = new AppointmentBuilder(APPOINTMENT_ALICE)
+            .withName("Hoon Meier")
+            .withStartTime(LocalTime.of(18, 0))
+            .withEndTime(LocalTime.of(19, 0))
+            .build();
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalPath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("TempAppointments.json");
+        journalPath = testFolder.resolve("TempAppointments.json" + JsonJournal.JOURNAL_FILE_EXTENSION);
+    }
+
+    @Test
+    public void readAppointments_missingFiles_emptyResult() throws Exception {
+        assertFalse(new JournaledAppointmentStorage(filePath).readAppointments().isPresent());
+    }
+
+    @Test
+    public void saveAppointments_smallChange_appendsToJournal() throws Exception {
+        List<Appointment> appointments = getTypicalAppointments();
+        JournaledAppointmentStorage storage = new JournaledAppointmentStorage(filePath);
+        storage.saveAppointments(appointments);
+        assertFalse(Files.exists(journalPath));
+
+        appointments.add(APPOINTMENT_HOON);
+        storage.saveAppointments(appointments);
+
+        assertTrue(Files.exists(journalPath));
+        assertEquals(getTypicalAppointments(), new JsonAppointmentStorage(filePath).readAppointments().get());
+        assertEquals(appointments, new JournaledAppointmentStorage(filePath).readAppointments().get());
+    }
+
+    @Test
+    public void saveAppointments_sequenceOfChanges_replayedOnRead() throws Exception {
+        List<Appointment> appointments = getTypicalAppointments();
+        JournaledAppointmentStorage storage = new JournaledAppointmentStorage(filePath);
+        storage.saveAppointments(appointments);
+
+        appointments.remove(APPOINTMENT_ALICE);
+        storage.saveAppointments(appointments);
+        appointments.add(APPOINTMENT_HOON);
+        storage.saveAppointments(appointments);
+        appointments.remove(APPOINTMENT_BENSON);
+        storage.saveAppointments(appointments);
+
+        assertEquals(appointments, new JournaledAppointmentStorage(filePath).readAppointments().get());
+    }
+
+    @Test
+    public void saveAppointments_compactionThresholdReached_foldsJournalIntoSnapshot() throws Exception {
+        List<Appointment> appointments = getTypicalAppointments();
+        JournaledAppointmentStorage storage = new JournaledAppointmentStorage(filePath, 1);
+        storage.saveAppointments(appointments);
+
+        appointments.add(APPOINTMENT_HOON);
+        storage.saveAppointments(appointments);
+        assertTrue(Files.exists(journalPath));
+
+        appointments.remove(APPOINTMENT_ALICE);
+        storage.saveAppointments(appointments);
+        assertFalse(Files.exists(journalPath));
+        assertEquals(appointments, new JsonAppointmentStorage(filePath).readAppointments().get());
+    }
+
+    @Test
+    public void readAppointments_journalLeftBehindByCompaction_journalDiscarded() throws Exception {
+        List<Appointment> appointments = getTypicalAppointments();
+        JournaledAppointmentStorage storage = new JournaledAppointmentStorage(filePath, 1);
+        storage.saveAppointments(appointments);
+        appointments.add(APPOINTMENT_HOON);
+        storage.saveAppointments(appointments);
+        byte[] oldJournal = Files.readAllBytes(journalPath);
+
+        // compaction writes a new snapshot, then the old journal is put back as if deleting it had failed
+        appointments.remove(APPOINTMENT_HOON);
+        storage.saveAppointments(appointments);
+        Files.write(journalPath, oldJournal);
+
+        assertEquals(getTypicalAppointments(), new JournaledAppointmentStorage(filePath).readAppointments().get());
+        assertFalse(Files.exists(journalPath));
+    }
+
+    @Test
+    public void saveAppointments_nullAppointments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new JournaledAppointmentStorage(filePath).saveAppointments(null));
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
@@ -12,12 +13,16 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.PersonBuilder;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -60,6 +65,42 @@ public class JsonAddressBookStorageTest {
         assertThrows(DataLoadingException.class, () -> readAddressBook("invalidAndValidPersonAddressBook.json"));
     }
 
+    @Test
+    public void readAddressBook_invalidArchivedPerson_reportsInvalidEntry() {
+        DataLoadingException exception = Assertions.assertThrows(DataLoadingException.class, () ->
+                readAddressBook("invalidArchivedPersonAddressBook.json"));
+        assertEquals(String.format(JsonAddressBookStorage.MESSAGE_INVALID_PERSON_RECORD, 2, "archivedPersons",
+                Phone.MESSAGE_CONSTRAINTS), exception.getCause().getMessage());
+    }
+
+    @Test
+    public void readAddressBook_duplicatePersons_reportsDuplicateEntry() {
+        DataLoadingException exception = Assertions.assertThrows(DataLoadingException.class, () ->
+                readAddressBook("duplicatePersonAddressBook.json"));
+        assertEquals(String.format(JsonAddressBookStorage.MESSAGE_INVALID_PERSON_RECORD, 2, "persons",
+                JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON), exception.getCause().getMessage());
+    }
+
+    @Test
+    public void readAddressBook_missingPersons_throwDataLoadingException() {
+        DataLoadingException exception = Assertions.assertThrows(DataLoadingException.class, () ->
+                readAddressBook("missingPersonsAddressBook.json"));
+        assertEquals(JsonAddressBookStorage.MESSAGE_MISSING_PERSONS, exception.getCause().getMessage());
+    }
+
+    @Test
+    public void readAddressBook_archivedPersons_readAsArchived() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        original.setPerson(ALICE, new PersonBuilder(ALICE).withArchived(true).build());
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+
+        jsonAddressBookStorage.saveAddressBook(original, filePath);
+        ReadOnlyAddressBook readBack = jsonAddressBookStorage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+        assertTrue(readBack.getPersonList().stream().anyMatch(Person::isArchived));
+    }
+
     @Test
     public void readAndSaveAddressBook_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempAddressBook.json");
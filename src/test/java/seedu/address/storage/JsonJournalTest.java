@@ -0,0 +1,98 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+
+public class JsonJournalTest {
+
+    private static final String TORN_ENTRY = "{\"operation\":\"REMOVE_PER";
+    private static final long SNAPSHOT_ID = 42;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getJournalPath_snapshotPath_journalNextToSnapshot() {
+        JsonJournal journal = new JsonJournal(testFolder.resolve("data.json"));
+        assertEquals(testFolder.resolve("data.json.journal"), journal.getJournalPath());
+    }
+
+    @Test
+    public void read_missingJournal_emptyList() throws Exception {
+        assertEquals(List.of(), new JsonJournal(testFolder.resolve("data.json")).read(SNAPSHOT_ID));
+    }
+
+    @Test
+    public void append_entries_readBackInOrder() throws Exception {
+        JsonJournal journal = new JsonJournal(testFolder.resolve("data.json"));
+        journal.append(List.of(JsonAdaptedJournalEntry.putPerson(ALICE)), SNAPSHOT_ID);
+        journal.append(List.of(JsonAdaptedJournalEntry.putPerson(BENSON),
+                JsonAdaptedJournalEntry.removePerson(ALICE.getName())), SNAPSHOT_ID);
+
+        assertEquals(3, journal.read(SNAPSHOT_ID).size());
+        assertEquals(4, Files.readAllLines(journal.getJournalPath()).size()); // the header and the entries
+    }
+
+    @Test
+    public void read_incompleteLastEntry_dropsEntry() throws Exception {
+        JsonJournal journal = new JsonJournal(testFolder.resolve("data.json"));
+        journal.append(List.of(JsonAdaptedJournalEntry.putPerson(ALICE)), SNAPSHOT_ID);
+        Files.writeString(journal.getJournalPath(), TORN_ENTRY, StandardOpenOption.APPEND);
+
+        assertEquals(1, journal.read(SNAPSHOT_ID).size());
+
+        // the incomplete entry is removed, so later appends are readable
+        journal.append(List.of(JsonAdaptedJournalEntry.putPerson(BENSON)), SNAPSHOT_ID);
+        assertEquals(2, journal.read(SNAPSHOT_ID).size());
+    }
+
+    @Test
+    public void read_unreadableEntryBeforeLast_throwsIoException() throws Exception {
+        JsonJournal journal = new JsonJournal(testFolder.resolve("data.json"));
+        Files.writeString(journal.getJournalPath(), TORN_ENTRY + "\n");
+        journal.append(List.of(JsonAdaptedJournalEntry.putPerson(ALICE)), SNAPSHOT_ID);
+
+        assertThrows(IOException.class, () -> journal.read(SNAPSHOT_ID));
+    }
+
+    @Test
+    public void read_journalOfOtherSnapshot_deletesJournal() throws Exception {
+        JsonJournal journal = new JsonJournal(testFolder.resolve("data.json"));
+        journal.append(List.of(JsonAdaptedJournalEntry.putPerson(ALICE)), SNAPSHOT_ID);
+
+        assertEquals(List.of(), journal.read(SNAPSHOT_ID + 1));
+        assertFalse(Files.exists(journal.getJournalPath()));
+    }
+
+    @Test
+    public void read_journalWithoutHeader_appliesToSnapshotWithoutId() throws Exception {
+        JsonJournal journal = new JsonJournal(testFolder.resolve("data.json"));
+        Files.writeString(journal.getJournalPath(),
+                JsonUtil.toJsonLine(JsonAdaptedJournalEntry.putPerson(ALICE)) + "\n");
+
+        assertEquals(1, journal.read(0).size());
+    }
+
+    @Test
+    public void clear_existingJournal_deletesJournal() throws Exception {
+        JsonJournal journal = new JsonJournal(testFolder.resolve("data.json"));
+        journal.append(List.of(JsonAdaptedJournalEntry.putPerson(ALICE)), SNAPSHOT_ID);
+        journal.clear();
+
+        assertFalse(Files.exists(journal.getJournalPath()));
+    }
+}
@@ -0,0 +1,99 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class SaveSchedulerTest {
+
+    private static final long LONG_DELAY_MILLIS = 60_000;
+
+    @TempDir
+    public Path testFolder;
+
+    private final List<ReadOnlyAddressBook> savedAddressBooks = new ArrayList<>();
+
+    private Storage getRecordingStorage() {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(testFolder.resolve("ab.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                savedAddressBooks.add(addressBook);
+            }
+        };
+        JsonAppointmentStorage appointmentStorage = new JsonAppointmentStorage(testFolder.resolve("appt.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(testFolder.resolve("prefs.json"));
+        return new StorageManager(addressBookStorage, appointmentStorage, userPrefsStorage);
+    }
+
+    @Test
+    public void flush_nothingScheduled_doesNotSave() {
+        SaveScheduler saveScheduler = new SaveScheduler(getRecordingStorage(), LONG_DELAY_MILLIS);
+        saveScheduler.flush();
+        assertEquals(0, savedAddressBooks.size());
+    }
+
+    @Test
+    public void flush_burstOfSnapshots_savesLatestSnapshotOnce() {
+        SaveScheduler saveScheduler = new SaveScheduler(getRecordingStorage(), LONG_DELAY_MILLIS);
+        AddressBook addressBook = new AddressBook();
+        saveScheduler.schedule(addressBook, new ArrayList<>());
+        addressBook.addPerson(ALICE);
+        saveScheduler.schedule(addressBook, new ArrayList<>());
+        saveScheduler.schedule(getTypicalAddressBook(), new ArrayList<>());
+
+        saveScheduler.flush();
+        saveScheduler.flush();
+        assertEquals(List.of(getTypicalAddressBook()), savedAddressBooks);
+    }
+
+    @Test
+    public void schedule_modelChangedAfterScheduling_savesSnapshotAtSchedulingTime() {
+        SaveScheduler saveScheduler = new SaveScheduler(getRecordingStorage(), LONG_DELAY_MILLIS);
+        AddressBook addressBook = new AddressBook();
+        saveScheduler.schedule(addressBook, new ArrayList<>());
+        addressBook.addPerson(ALICE);
+
+        saveScheduler.flush();
+        assertEquals(List.of(new AddressBook()), savedAddressBooks);
+    }
+
+    @Test
+    public void schedule_afterShutdown_doesNotSave() {
+        SaveScheduler saveScheduler = new SaveScheduler(getRecordingStorage(), LONG_DELAY_MILLIS);
+        saveScheduler.shutdown();
+        saveScheduler.schedule(new AddressBook(), new ArrayList<>());
+        saveScheduler.flush();
+        assertEquals(0, savedAddressBooks.size());
+    }
+
+    @Test
+    public void flush_saveFails_reportsException() {
+        IOException exception = new IOException("dummy IO exception");
+        JsonAddressBookStorage failingStorage = new JsonAddressBookStorage(testFolder.resolve("ab.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw exception;
+            }
+        };
+        Storage storage = new StorageManager(failingStorage, new JsonAppointmentStorage(testFolder.resolve("a.json")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json")));
+        SaveScheduler saveScheduler = new SaveScheduler(storage, LONG_DELAY_MILLIS);
+        List<IOException> reportedExceptions = new ArrayList<>();
+        saveScheduler.setSaveFailureHandler(reportedExceptions::add);
+
+        saveScheduler.schedule(new AddressBook(), new ArrayList<>());
+        saveScheduler.flush();
+        assertEquals(List.of(exception), reportedExceptions);
+    }
+}
@@ -0,0 +1,25 @@
+package seedu.address.testutil;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
+
+/**
+ * A utility class for PersonSearchIndex.
+ */
+public class PersonSearchIndexUtil {
+
+    /**
+     * Returns the persons in {@code persons}, the list {@code index} is built from, that searching the index for
+     * {@code keywordSearchKeys} marks.
+     */
+    public static Set<Person> search(PersonSearchIndex index, List<Person> persons, String... keywordSearchKeys) {
+        BitSet matches = new BitSet();
+        index.search(matches, keywordSearchKeys);
+        return persons.stream().filter(person -> index.isMatch(person, matches)).collect(Collectors.toSet());
+    }
+}